@@ -0,0 +1,105 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.repository.FootballRepository;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * ベンチマーク用の架空のリーグ・試合データ
+ * 乱数のシードを固定しているため、同じ引数からは常に同じデータを作成する
+ */
+final class BenchmarkData {
+
+  static final int FIRST_SEASON_ID = 200001;
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * リーグに所属するクラブを作成する（IDは1から連番）
+   * @param leagueId
+   * @param clubCount
+   * @return clubs
+   */
+  static List<Club> clubs(int leagueId, int clubCount) {
+    List<Club> clubs = new ArrayList<>(clubCount);
+    for (int i = 1; i <= clubCount; i++) {
+      clubs.add(new Club(i, leagueId, "Club " + i));
+    }
+    return clubs;
+  }
+
+  /**
+   * 全クラブがホーム・アウェーで1試合ずつ対戦するシーズンの試合結果を作成する
+   * @param clubs
+   * @param seasonId
+   * @param firstGameId 試合IDの開始番号
+   * @param random
+   * @return gameResults
+   */
+  static List<GameResult> doubleRoundRobin(List<Club> clubs, int seasonId, int firstGameId, Random random) {
+    List<GameResult> gameResults = new ArrayList<>(clubs.size() * (clubs.size() - 1));
+    int gameId = firstGameId;
+    LocalDate gameDate = seasonStartDate(seasonId);
+    for (Club home : clubs) {
+      for (Club away : clubs) {
+        if (home.getId() == away.getId()) {
+          continue;
+        }
+        int homeScore = random.nextInt(4);
+        int awayScore = random.nextInt(3);
+        Integer winnerClubId = homeScore > awayScore ? Integer.valueOf(home.getId())
+            : homeScore < awayScore ? Integer.valueOf(away.getId()) : null;
+        gameResults.add(new GameResult(gameId++, home.getId(), away.getId(), homeScore, awayScore, winnerClubId,
+            home.getLeagueId(), gameDate, seasonId));
+      }
+    }
+    return gameResults;
+  }
+
+  /**
+   * 1試合分の選手成績を作成する（先発11人が90分出場し、得点は先頭の選手から順に割り当てる）
+   * @param firstPlayerId
+   * @param clubId
+   * @param goals
+   * @param gameId
+   * @return playerGameStats
+   */
+  static List<PlayerGameStat> lineup(int firstPlayerId, int clubId, int goals, int gameId) {
+    List<PlayerGameStat> playerGameStats = new ArrayList<>(11);
+    for (int i = 0; i < 11; i++) {
+      playerGameStats.add(new PlayerGameStat(0, firstPlayerId + i, clubId, i + 1, true,
+          i < goals ? 1 : 0, 0, 90, 0, 0, gameId));
+    }
+    return playerGameStats;
+  }
+
+  static LocalDate seasonStartDate(int seasonId) {
+    return LocalDate.of(seasonId / 100, 8, 1);
+  }
+
+  /**
+   * メソッド名ごとの処理だけを持つリポジトリを作成する（定義していないメソッドを呼ぶと例外）
+   * @param handlers メソッド名と、引数から戻り値を作成する処理
+   * @return repository
+   */
+  static FootballRepository repository(Map<String, Function<Object[], Object>> handlers) {
+    return (FootballRepository) Proxy.newProxyInstance(FootballRepository.class.getClassLoader(),
+        new Class<?>[] {FootballRepository.class},
+        (proxy, method, args) -> {
+          Function<Object[], Object> handler = handlers.get(method.getName());
+          if (handler == null) {
+            throw new UnsupportedOperationException(method.getName());
+          }
+          return handler.apply(args);
+        });
+  }
+}
@@ -0,0 +1,68 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.exception.FootballException;
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.data.League;
+import football.StatsManagement.model.data.Player;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.service.FootballService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 試合結果と選手成績の整合性の確認のベンチマーク
+ * 登録を行わない取り込み前の確認（confirmGameResultAndPlayerGameStats を含む）を対象にする
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameResultValidationBenchmark {
+
+  private static final int LEAGUE_ID = 1;
+
+  private GameResult gameResult;
+  private List<PlayerGameStat> homePlayerGameStats;
+  private List<PlayerGameStat> awayPlayerGameStats;
+  private FootballService service;
+
+  @Setup
+  public void setUp() {
+    int seasonId = BenchmarkData.FIRST_SEASON_ID;
+    gameResult = new GameResult(0, 1, 2, 2, 1, 1, LEAGUE_ID, BenchmarkData.seasonStartDate(seasonId), seasonId);
+    homePlayerGameStats = BenchmarkData.lineup(1, 1, 2, 0);
+    awayPlayerGameStats = BenchmarkData.lineup(12, 2, 1, 0);
+
+    Map<Integer, Player> players = IntStream.rangeClosed(1, 22).boxed()
+        .collect(Collectors.toMap(id -> id, id -> new Player(id, id <= 11 ? 1 : 2, "Player " + id, id)));
+    Map<String, Function<Object[], Object>> handlers = Map.of(
+        "selectPlayersByIds", args -> ((List<?>) args[0]).stream().map(players::get).toList(),
+        "selectSeason", args -> Optional.of(new Season(seasonId, "Season", BenchmarkData.seasonStartDate(seasonId),
+            BenchmarkData.seasonStartDate(seasonId).plusMonths(10), false)),
+        "selectLeague", args -> Optional.of(new League(LEAGUE_ID, 1, "League")),
+        "selectClub", args -> Optional.of(new Club((Integer) args[0], LEAGUE_ID, "Club " + args[0])));
+    service = new FootballService(BenchmarkData.repository(handlers));
+  }
+
+  @Benchmark
+  public GameResultWithPlayerStats prepareImportedGameResultAndPlayerGameStats() throws FootballException, ResourceNotFoundException {
+    GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResult, homePlayerGameStats, awayPlayerGameStats);
+    service.prepareImportedGameResultAndPlayerGameStats(gameResultWithPlayerStats);
+    return gameResultWithPlayerStats;
+  }
+}
@@ -0,0 +1,75 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.Player;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.service.FootballService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 選手のシーズン成績の集計のベンチマーク
+ * 1シーズン38試合に出場し、5シーズンごとに移籍する選手の全試合成績から、最後のシーズンのクラブの成績を集計する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerSeasonStatBenchmark {
+
+  private static final int PLAYER_ID = 1;
+  private static final int GAMES_PER_SEASON = 38;
+
+  @Param({"1", "10", "30"})
+  private int seasonCount;
+
+  private List<PlayerGameStat> playerGameStats;
+  private int seasonId;
+  private int clubId;
+  private FootballService service;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    playerGameStats = new ArrayList<>(seasonCount * GAMES_PER_SEASON);
+    int gameId = 1;
+    for (int season = 0; season < seasonCount; season++) {
+      int seasonClubId = 1 + season / 5;
+      for (int game = 0; game < GAMES_PER_SEASON; game++) {
+        boolean starter = random.nextInt(4) > 0;
+        playerGameStats.add(new PlayerGameStat(gameId, PLAYER_ID, seasonClubId, 10, starter, random.nextInt(2),
+            random.nextInt(2), starter ? 90 : 20, random.nextInt(10) == 0 ? 1 : 0, 0, gameId));
+        gameId++;
+      }
+    }
+    seasonId = BenchmarkData.FIRST_SEASON_ID + (seasonCount - 1) * 101;
+    clubId = 1 + (seasonCount - 1) / 5;
+
+    Map<String, Function<Object[], Object>> handlers = Map.of(
+        "selectPlayer", args -> Optional.of(new Player((Integer) args[0], clubId, "Player", 10)),
+        "selectClub", args -> Optional.of(new Club((Integer) args[0], 1, "Club " + args[0])),
+        "selectSeason", args -> Optional.of(new Season((Integer) args[0], "Season", BenchmarkData.seasonStartDate((Integer) args[0]),
+            BenchmarkData.seasonStartDate((Integer) args[0]).plusMonths(10), false)));
+    service = new FootballService(BenchmarkData.repository(handlers));
+  }
+
+  @Benchmark
+  public PlayerSeasonStat initialPlayerSeasonStat() throws ResourceNotFoundException {
+    return PlayerSeasonStat.initialPlayerSeasonStat(PLAYER_ID, playerGameStats, seasonId, clubId, service);
+  }
+}
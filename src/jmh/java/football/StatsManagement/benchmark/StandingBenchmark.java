@@ -0,0 +1,73 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.service.FootballService;
+import football.StatsManagement.utils.RankingUtils;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 順位表の作成（クラブごとの成績の集計と順位付け）のベンチマーク
+ * リーグIDは順位決定基準の違い（1は既定の基準）を比較するために指定する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StandingBenchmark {
+
+  @Param({"10", "20", "40"})
+  private int clubCount;
+
+  @Param({"1", "7", "9", "11"})
+  private int leagueId;
+
+  private List<Club> clubs;
+  private List<GameResult> gameResults;
+  private List<ClubForStanding> clubForStandings;
+  private FootballService service;
+
+  @Setup
+  public void setUp() {
+    clubs = BenchmarkData.clubs(leagueId, clubCount);
+    gameResults = BenchmarkData.doubleRoundRobin(clubs, BenchmarkData.FIRST_SEASON_ID, 1, new Random(42));
+    clubForStandings = ClubForStanding.initialClubForStandings(clubs, gameResults);
+
+    // クラブごとの試合結果はあらかじめ分けておき、リポジトリの処理時間を含めないようにする
+    Map<Integer, List<GameResult>> gameResultsByClub = clubs.stream()
+        .collect(Collectors.toMap(Club::getId, club -> gameResults.stream()
+            .filter(gameResult -> gameResult.getHomeClubId() == club.getId() || gameResult.getAwayClubId() == club.getId())
+            .toList()));
+    Map<String, Function<Object[], Object>> handlers = Map.of(
+        "selectGameResultsByClubAndSeason", args -> gameResultsByClub.get((Integer) args[1]));
+    service = new FootballService(BenchmarkData.repository(handlers));
+  }
+
+  @Benchmark
+  public List<ClubForStanding> initialClubForStandings() {
+    return ClubForStanding.initialClubForStandings(clubs, gameResults);
+  }
+
+  @Benchmark
+  public ClubForStanding initialClubForStanding() {
+    return ClubForStanding.initialClubForStanding(BenchmarkData.FIRST_SEASON_ID, clubs.get(0), service);
+  }
+
+  @Benchmark
+  public List<ClubForStanding> sortedClubForStandings() {
+    return RankingUtils.sortedClubForStandings(leagueId, clubForStandings);
+  }
+}
@@ -0,0 +1,197 @@
+package football.StatsManagement.benchmark;
+
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.domain.StatTotals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 選手試合成績の合計の比較（項目ごとの Stream と Integer の HashSet による従来の実装と、StatTotals による1回の走査）
+ * 一括取り込みを想定し、games 試合分のホーム・アウェイの確認と、1シーズン分の選手成績の集計を対象にする
+ * 従来の実装はこのクラスに残した写しで計測する（比較のため変更しないこと）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatTotalsBenchmark {
+
+  private static final int HOME_CLUB_ID = 1;
+  private static final int AWAY_CLUB_ID = 2;
+
+  @Param({"1", "1000"})
+  private int games;
+
+  private List<List<PlayerGameStat>> homeLineups;
+  private List<List<PlayerGameStat>> awayLineups;
+  private List<PlayerGameStat> seasonPlayerGameStats;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    homeLineups = new ArrayList<>(games);
+    awayLineups = new ArrayList<>(games);
+    for (int gameId = 1; gameId <= games; gameId++) {
+      homeLineups.add(withSubstitutes(BenchmarkData.lineup(1, HOME_CLUB_ID, random.nextInt(4), gameId), HOME_CLUB_ID, gameId));
+      awayLineups.add(withSubstitutes(BenchmarkData.lineup(20, AWAY_CLUB_ID, random.nextInt(3), gameId), AWAY_CLUB_ID, gameId));
+    }
+    // 1選手の1シーズン分（38試合、途中で移籍）
+    seasonPlayerGameStats = new ArrayList<>(38);
+    for (int gameId = 1; gameId <= 38; gameId++) {
+      boolean starter = random.nextInt(4) > 0;
+      seasonPlayerGameStats.add(new PlayerGameStat(gameId, 1, gameId <= 20 ? HOME_CLUB_ID : AWAY_CLUB_ID, 10, starter,
+          random.nextInt(2), random.nextInt(2), starter ? 90 : 20, random.nextInt(10) == 0 ? 1 : 0, 0, gameId));
+    }
+  }
+
+  @Benchmark
+  public int validateWithStreams() {
+    int valid = 0;
+    for (int i = 0; i < games; i++) {
+      valid += isValidWithStreams(homeLineups.get(i), awayLineups.get(i)) ? 1 : 0;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int validateWithStatTotals() {
+    int valid = 0;
+    for (int i = 0; i < games; i++) {
+      valid += isValidWithStatTotals(homeLineups.get(i), awayLineups.get(i)) ? 1 : 0;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int seasonStatWithStreams() {
+    List<PlayerGameStat> playerGameStatsByClub = seasonPlayerGameStats.stream()
+        .filter(playerGameStat -> playerGameStat.getClubId() == AWAY_CLUB_ID)
+        .toList();
+    int starterGames = (int) playerGameStatsByClub.stream().filter(PlayerGameStat::isStarter).count();
+    int goals = playerGameStatsByClub.stream().mapToInt(PlayerGameStat::getGoals).sum();
+    int assists = playerGameStatsByClub.stream().mapToInt(PlayerGameStat::getAssists).sum();
+    int minutes = playerGameStatsByClub.stream().mapToInt(PlayerGameStat::getMinutes).sum();
+    int yellowCards = playerGameStatsByClub.stream().mapToInt(PlayerGameStat::getYellowCards).sum();
+    int redCards = playerGameStatsByClub.stream().mapToInt(PlayerGameStat::getRedCards).sum();
+    return playerGameStatsByClub.size() + starterGames + goals + assists + minutes + yellowCards + redCards;
+  }
+
+  @Benchmark
+  public int seasonStatWithStatTotals() {
+    StatTotals totals = StatTotals.ofClub(seasonPlayerGameStats, AWAY_CLUB_ID);
+    return totals.getGames() + totals.getStarterGames() + totals.getGoals() + totals.getAssists() + totals.getMinutes()
+        + totals.getYellowCards() + totals.getRedCards();
+  }
+
+  // 先発11人に交代選手を3人加える
+  private static List<PlayerGameStat> withSubstitutes(List<PlayerGameStat> lineup, int clubId, int gameId) {
+    int firstPlayerId = lineup.get(lineup.size() - 1).getPlayerId() + 1;
+    for (int i = 0; i < 3; i++) {
+      lineup.add(new PlayerGameStat(0, firstPlayerId + i, clubId, 12 + i, false, 0, 0, 20, 0, 0, gameId));
+    }
+    return lineup;
+  }
+
+  // 変更前の FootballService.confirmGameResultAndPlayerGameStats の成績の確認（スコアは選手の得点から求める）
+  private static boolean isValidWithStreams(List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats) {
+    for (PlayerGameStat playerGameStat : homeClubStats) {
+      if (playerGameStat.getClubId() != HOME_CLUB_ID) {
+        return false;
+      }
+    }
+    for (PlayerGameStat playerGameStat : awayClubStats) {
+      if (playerGameStat.getClubId() != AWAY_CLUB_ID) {
+        return false;
+      }
+    }
+    List<Integer> homePlayerIds = homeClubStats.stream().map(PlayerGameStat::getPlayerId).collect(Collectors.toList());
+    Set<Integer> homePlayerIdsSet = new HashSet<>(homePlayerIds);
+    if (homePlayerIds.size() != homePlayerIdsSet.size()) {
+      return false;
+    }
+    List<Integer> awayPlayerIds = awayClubStats.stream().map(PlayerGameStat::getPlayerId).collect(Collectors.toList());
+    Set<Integer> awayPlayerIdsSet = new HashSet<>(awayPlayerIds);
+    if (awayPlayerIds.size() != awayPlayerIdsSet.size()) {
+      return false;
+    }
+    int homeScore = 0;
+    for (PlayerGameStat playerGameStat : homeClubStats) {
+      homeScore += playerGameStat.getGoals();
+    }
+    int awayScore = 0;
+    for (PlayerGameStat playerGameStat : awayClubStats) {
+      awayScore += playerGameStat.getGoals();
+    }
+    int homeAssists = homeClubStats.stream().mapToInt(PlayerGameStat::getAssists).sum();
+    int awayAssists = awayClubStats.stream().mapToInt(PlayerGameStat::getAssists).sum();
+    if (homeAssists > homeScore || awayAssists > awayScore) {
+      return false;
+    }
+    int homeStarterCount = (int) homeClubStats.stream().filter(PlayerGameStat::isStarter).count();
+    int awayStarterCount = (int) awayClubStats.stream().filter(PlayerGameStat::isStarter).count();
+    if (homeStarterCount != 11 || awayStarterCount != 11) {
+      return false;
+    }
+    int homeMinutes = homeClubStats.stream().mapToInt(PlayerGameStat::getMinutes).sum();
+    int awayMinutes = awayClubStats.stream().mapToInt(PlayerGameStat::getMinutes).sum();
+    return homeMinutes >= 990 && awayMinutes >= 990;
+  }
+
+  // 変更後の確認（FootballService と同じく StatTotals で1回ずつ走査し、重複は int 配列で確認する）
+  private static boolean isValidWithStatTotals(List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats) {
+    StatTotals homeTotals = new StatTotals();
+    boolean homeClubMatched = sumClubStats(homeClubStats, HOME_CLUB_ID, homeTotals);
+    StatTotals awayTotals = new StatTotals();
+    boolean awayClubMatched = sumClubStats(awayClubStats, AWAY_CLUB_ID, awayTotals);
+    if (!homeClubMatched || !awayClubMatched) {
+      return false;
+    }
+    if (hasDuplicatePlayers(homeClubStats) || hasDuplicatePlayers(awayClubStats)) {
+      return false;
+    }
+    if (homeTotals.getAssists() > homeTotals.getGoals() || awayTotals.getAssists() > awayTotals.getGoals()) {
+      return false;
+    }
+    if (homeTotals.getStarterGames() != 11 || awayTotals.getStarterGames() != 11) {
+      return false;
+    }
+    return homeTotals.getMinutes() >= 990 && awayTotals.getMinutes() >= 990;
+  }
+
+  private static boolean sumClubStats(List<PlayerGameStat> playerGameStats, int clubId, StatTotals totals) {
+    boolean matched = true;
+    for (int i = 0; i < playerGameStats.size(); i++) {
+      PlayerGameStat playerGameStat = playerGameStats.get(i);
+      matched &= playerGameStat.getClubId() == clubId;
+      totals.add(playerGameStat);
+    }
+    return matched;
+  }
+
+  private static boolean hasDuplicatePlayers(List<PlayerGameStat> playerGameStats) {
+    int[] playerIds = new int[playerGameStats.size()];
+    for (int i = 0; i < playerIds.length; i++) {
+      playerIds[i] = playerGameStats.get(i).getPlayerId();
+    }
+    Arrays.sort(playerIds);
+    for (int i = 1; i < playerIds.length; i++) {
+      if (playerIds[i] == playerIds[i - 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -6,6 +6,8 @@ import football.StatsManagement.model.domain.json.GameResultWithPlayerStatsForJs
 import football.StatsManagement.model.domain.json.PlayerForPatch;
 import football.StatsManagement.model.domain.json.PlayerForTransfer;
 import football.StatsManagement.service.FootballService;
+import football.StatsManagement.service.GameResultExportService;
+import football.StatsManagement.service.GameResultImportService;
 import football.StatsManagement.exception.FootballException;
 import football.StatsManagement.model.data.Club;
 import football.StatsManagement.model.data.Country;
@@ -14,20 +16,31 @@ import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
 import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.Leaderboard;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.domain.PlayerSeasonTotalsReport;
+import football.StatsManagement.model.domain.SeasonSummary;
 import football.StatsManagement.model.domain.json.ClubForJson;
 import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.model.domain.ImportReport;
 import football.StatsManagement.model.domain.json.PlayerForJson;
 import football.StatsManagement.model.domain.json.LeagueForJson;
 import football.StatsManagement.model.domain.Standing;
 import football.StatsManagement.model.domain.json.SeasonForJson;
+import football.StatsManagement.utils.VersionStamps;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,15 +50,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 @RestController
 public class FootballController {
   private FootballService service;
+  private GameResultImportService importService;
+  private GameResultExportService exportService;
 
   @Autowired
-  public FootballController(FootballService service) {
+  public FootballController(FootballService service, GameResultImportService importService, GameResultExportService exportService) {
     this.service = service;
+    this.importService = importService;
+    this.exportService = exportService;
   }
 
   /**
@@ -158,11 +177,17 @@ public class FootballController {
    * リーグIDとシーズンIDに紐づく順位表の取得
    * @param leagueId
    * @param seasonId
-   * @return 順位表
+   * @param request 条件付きGET（If-None-Match・If-Modified-Since）の確認に使用
+   * @return 順位表（更新がない場合は null を返し、304を返却する）
    */
-  @Operation(summary = "順位表の取得", description = "リーグIDとシーズンIDに紐づく順位表を取得します")
+  @Operation(summary = "順位表の取得", description = "リーグIDとシーズンIDに紐づく順位表を取得します（ETagによる条件付きGETに対応）")
   @GetMapping("/leagues/{leagueId}/standings/{seasonId}")
-  public Standing getStanding(@PathVariable @Positive int leagueId, @PathVariable @Min(100000) int seasonId) throws ResourceNotFoundException {
+  public Standing getStanding(@PathVariable @Positive int leagueId, @PathVariable @Min(100000) int seasonId, WebRequest request)
+      throws ResourceNotFoundException {
+    // 更新がなければ順位表を作成せずに304を返却する
+    if (isNotModified(request, service.getStandingVersion(leagueId, seasonId))) {
+      return null;
+    }
     return Standing.initialStanding(leagueId, seasonId, service);
   }
 
@@ -195,37 +220,95 @@ public class FootballController {
    * クラブIDとシーズンIDに紐づく選手成績の取得
    * @param clubId
    * @param seasonId
-   * @return 選手のシーズン成績リスト
+   * @param include games を指定した場合のみ試合ごとの成績を含める
+   * @param request 条件付きGETの確認に使用
+   * @return 選手のシーズン成績リスト（更新がない場合は null を返し、304を返却する）
    */
-  @Operation(summary = "クラブ所属選手シーズン成績の取得", description = "クラブIDとシーズンIDに紐づく選手シーズン成績を取得します")
+  @Operation(summary = "クラブ所属選手シーズン成績の取得", description = "クラブIDとシーズンIDに紐づく選手シーズン成績を取得します（成績はこのクラブでの試合の合計です。include=gamesで、移籍前のクラブでの試合も含むシーズン中の全ての試合ごとの成績を含めます）")
   @GetMapping("/clubs/{clubId}/players-season-stats/{seasonId}")
-  public List<PlayerSeasonStat> getPlayerSeasonStatsByClubId(@PathVariable @Positive int clubId, @PathVariable @Min(100000) int seasonId)
+  public List<PlayerSeasonStat> getPlayerSeasonStatsByClubId(@PathVariable @Positive int clubId, @PathVariable @Min(100000) int seasonId,
+      @RequestParam(required = false) List<String> include, WebRequest request)
       throws ResourceNotFoundException {
-    return service.getPlayerSeasonStatsByClubId(clubId, seasonId);
+    if (isNotModified(request, service.getClubSeasonStatsVersion(clubId, seasonId))) {
+      return null;
+    }
+    return service.getPlayerSeasonStatsByClubId(clubId, seasonId, includesGames(include));
   }
 
   /**
    * 選手IDとシーズンIDに紐づく選手成績の取得
    * @param playerId
    * @param seasonId
-   * @return 選手のシーズン成績
+   * @param include games を指定した場合のみ試合ごとの成績を含める
+   * @param request 条件付きGETの確認に使用
+   * @return 選手のシーズン成績（更新がない場合は null を返し、304を返却する）
    */
-  @Operation(summary = "選手シーズン成績の取得", description = "選手IDとシーズンIDに紐づく選手成績を取得します")
+  @Operation(summary = "選手シーズン成績の取得", description = "選手IDとシーズンIDに紐づく選手成績を取得します（成績はクラブごとの合計です。include=gamesで、各クラブの成績に移籍前後のクラブでの試合も含むシーズン中の全ての試合ごとの成績を含めます）")
   @GetMapping("/players/{playerId}/player-season-stats/{seasonId}")
-  public List<PlayerSeasonStat> getPlayerSeasonStats(@PathVariable @Positive int playerId, @PathVariable @Min(100000) int seasonId)
+  public List<PlayerSeasonStat> getPlayerSeasonStats(@PathVariable @Positive int playerId, @PathVariable @Min(100000) int seasonId,
+      @RequestParam(required = false) List<String> include, WebRequest request)
       throws ResourceNotFoundException {
-    return service.getPlayerSeasonStatByPlayerId(playerId, seasonId);
+    if (isNotModified(request, service.getPlayerSeasonStatsVersion(playerId, seasonId))) {
+      return null;
+    }
+    return service.getPlayerSeasonStatByPlayerId(playerId, seasonId, includesGames(include));
+  }
+
+  /**
+   * シーズンIDに紐づく成績の合計の取得
+   * @param seasonId
+   * @return シーズン全体の成績の合計
+   */
+  @Operation(summary = "シーズン成績の合計の取得", description = "シーズンIDに紐づく全試合の得点・アシスト・出場時間・警告の合計と、試合・選手・クラブの数を取得します")
+  @GetMapping("/seasons/{seasonId}/summary")
+  public SeasonSummary getSeasonSummary(@PathVariable @Min(100000) int seasonId) throws ResourceNotFoundException {
+    return service.getSeasonSummary(seasonId);
+  }
+
+  /**
+   * リーグIDとシーズンIDに紐づく選手ランキングの取得
+   * @param leagueId
+   * @param seasonId
+   * @param stat goals, assists, minutes または cards
+   * @param limit 1ページの件数
+   * @param offset ページの先頭の位置（0始まり、前のページの nextOffset を指定する）
+   * @return 選手ランキング（1ページ分）
+   */
+  @Operation(summary = "選手ランキングの取得", description = "リーグIDとシーズンIDに紐づく得点・アシスト・出場時間・警告（stat）の選手ランキングを取得します。同値の場合は出場時間の短い順に並べ、limitとoffsetでページを指定します")
+  @GetMapping("/leagues/{leagueId}/leaders/{seasonId}")
+  public Leaderboard getLeaders(@PathVariable @Positive int leagueId, @PathVariable @Min(100000) int seasonId,
+      @RequestParam(defaultValue = "goals") String stat,
+      @RequestParam(defaultValue = "10") @Positive @Max(100) int limit,
+      @RequestParam(defaultValue = "0") @PositiveOrZero int offset)
+      throws FootballException, ResourceNotFoundException {
+    return service.getLeaderboard(leagueId, seasonId, LeaderStat.of(stat), limit, offset);
   }
 
   /**
    * 選手IDに紐づく通算成績の取得
    * @param playerId
-   * @return 選手のシーズン成績リスト
+   * @param include games を指定した場合のみ試合ごとの成績を含める
+   * @param request 条件付きGETの確認に使用
+   * @return 選手のシーズン成績リスト（更新がない場合は null を返し、304を返却する）
    */
   @GetMapping("/players/{playerId}/player-career-stats")
-  public List<PlayerSeasonStat> getPlayerCareerStatsByPlayerId(@PathVariable @Positive int playerId)
+  public List<PlayerSeasonStat> getPlayerCareerStatsByPlayerId(@PathVariable @Positive int playerId,
+      @RequestParam(required = false) List<String> include, WebRequest request)
       throws ResourceNotFoundException {
-    return service.getPlayerSeasonStatsByPlayerId(playerId);
+    if (isNotModified(request, service.getPlayerCareerStatsVersion(playerId))) {
+      return null;
+    }
+    return service.getPlayerSeasonStatsByPlayerId(playerId, includesGames(include));
+  }
+
+  // ETag・Last-Modified を設定し、クライアントの持つ内容から更新がなければ true（レスポンスは304になる）
+  private static boolean isNotModified(WebRequest request, VersionStamps.Stamp stamp) {
+    return request.checkNotModified(stamp.etag(), stamp.lastModified());
+  }
+
+  // include パラメータ（カンマ区切りで複数指定可）に games が含まれるか
+  private static boolean includesGames(List<String> include) {
+    return include != null && include.contains("games");
   }
 
 
@@ -240,6 +323,36 @@ public class FootballController {
     return service.getGameResult(gameId);
   }
 
+  /**
+   * 全試合結果のエクスポート
+   * @param format ndjson または csv
+   * @return 全試合結果（1件ずつ出力）
+   */
+  @Operation(summary = "全試合結果のエクスポート", description = "全ての試合結果をNDJSONまたはCSVで出力します")
+  @GetMapping("/game-results/export")
+  public ResponseEntity<StreamingResponseBody> exportGameResults(@RequestParam(defaultValue = "ndjson") String format)
+      throws FootballException {
+    GameResultExportService.Format exportFormat = GameResultExportService.Format.of(format);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .body(outputStream -> exportService.exportGameResults(outputStream, exportFormat));
+  }
+
+  /**
+   * 全選手成績のエクスポート
+   * @param format ndjson または csv
+   * @return 全選手成績（1件ずつ出力）
+   */
+  @Operation(summary = "全選手成績のエクスポート", description = "全ての試合の選手成績をNDJSONまたはCSVで出力します")
+  @GetMapping("/player-game-stats/export")
+  public ResponseEntity<StreamingResponseBody> exportPlayerGameStats(@RequestParam(defaultValue = "ndjson") String format)
+      throws FootballException {
+    GameResultExportService.Format exportFormat = GameResultExportService.Format.of(format);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .body(outputStream -> exportService.exportPlayerGameStats(outputStream, exportFormat));
+  }
+
   /**
    * 国の登録
    * @param name
@@ -313,6 +426,31 @@ public class FootballController {
     return ResponseEntity.ok().body(gameResultWithPlayerStats);
   }
 
+  /**
+   * 試合結果の一括取り込み
+   * @param inputStream NDJSON（1行に1試合、試合結果の登録と同じ形式）
+   * @param chunkSize 1トランザクションで登録する試合数
+   * @return 取り込み結果
+   */
+  @Operation(summary = "試合結果の一括取り込み", description = "過去シーズンを含む試合結果と個人成績をNDJSON（1行に1試合）で一括登録します。chunkSize件ごとにコミットし、登録できなかった行は行番号とエラー内容を返します")
+  @PostMapping(value = "/game-results/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ImportReport> importGameResults(InputStream inputStream,
+      @RequestParam(defaultValue = "" + GameResultImportService.DEFAULT_CHUNK_SIZE) @Positive int chunkSize) throws IOException {
+    return ResponseEntity.ok().body(importService.importGameResults(inputStream, chunkSize));
+  }
+
+  /**
+   * 選手シーズン成績の集計の作り直し
+   * @param seasonId nullの場合は全シーズン
+   * @return 作り直した件数と、作り直す前の集計と一致しなかった件数
+   */
+  @Operation(summary = "選手シーズン成績の集計の作り直し", description = "試合成績から選手シーズン成績の集計を作り直します。作り直す前の集計と一致しなかった件数を返すため、整合性の確認にも使用できます")
+  @PostMapping("/player-season-totals/rebuild")
+  public ResponseEntity<PlayerSeasonTotalsReport> rebuildPlayerSeasonTotals(
+      @RequestParam(required = false) @Min(100000) Integer seasonId) {
+    return ResponseEntity.ok().body(service.rebuildPlayerSeasonTotals(seasonId));
+  }
+
   /**
    * シーズンの登録
    * @param seasonForJson
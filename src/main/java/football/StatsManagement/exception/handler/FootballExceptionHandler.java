@@ -8,6 +8,8 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -98,6 +100,14 @@ public class FootballExceptionHandler {
   }
 
 
+  // DBの接続を待つ時間の上限を超えた場合の例外処理（混雑しているため時間をおいて再試行してもらう）
+  @ExceptionHandler(CannotGetJdbcConnectionException.class)
+  public ResponseEntity<String> handleCannotGetJdbcConnectionException(CannotGetJdbcConnectionException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body("Service is busy. Please retry later.");
+  }
+
   // FootballException（ビジネスロジックエラー）が発生した場合の例外処理
   @ExceptionHandler(FootballException.class)
   public ResponseEntity<String> handleException(FootballException e) {
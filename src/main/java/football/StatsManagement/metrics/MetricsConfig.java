@@ -0,0 +1,25 @@
+package football.StatsManagement.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * サービスとマッパーの計測の設定
+ * FootballService の public メソッドは @Timed（football.service）、マッパーの呼び出しは QueryMetricsInterceptor で計測する
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+
+  // Interceptor のBeanは MyBatis の自動設定でプラグインとして登録される
+  @Bean
+  public QueryMetricsInterceptor queryMetricsInterceptor(MeterRegistry registry) {
+    return new QueryMetricsInterceptor(registry);
+  }
+}
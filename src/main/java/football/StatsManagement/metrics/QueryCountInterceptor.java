@@ -0,0 +1,54 @@
+package football.StatsManagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * リクエストごとに実行したクエリ数を数え、football.request.queries に記録する
+ * しきい値を超えた場合は、N+1 の検知のためにリクエストとクエリ数をログに出力する
+ */
+@Slf4j
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+  private final ObjectProvider<MeterRegistry> registry;
+  private final int threshold;
+
+  public QueryCountInterceptor(ObjectProvider<MeterRegistry> registry, int threshold) {
+    this.registry = registry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    QueryCounter.start();
+    return true;
+  }
+
+  // 非同期のレスポンス（エクスポートなど）は別スレッドで処理されるため、ここで数え終わる
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    QueryCounter.stop();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    int count = QueryCounter.stop();
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    registry.ifAvailable(meterRegistry -> DistributionSummary.builder("football.request.queries")
+        .description("Queries executed per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(count));
+    if (count > threshold) {
+      log.warn("{} {} executed {} queries (threshold {})", request.getMethod(), request.getRequestURI(), count, threshold);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package football.StatsManagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * リクエストごとのクエリ数を数える QueryCountInterceptor の登録
+ * （@WebMvcTest でも読み込まれるため、MeterRegistry がない場合は記録せずにログの出力のみ行う）
+ */
+@Configuration
+public class QueryCountWebMvcConfigurer implements WebMvcConfigurer {
+
+  private final ObjectProvider<MeterRegistry> registry;
+  private final int threshold;
+
+  public QueryCountWebMvcConfigurer(ObjectProvider<MeterRegistry> registry,
+      @Value("${football.metrics.query-count-threshold:20}") int threshold) {
+    this.registry = registry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new QueryCountInterceptor(this.registry, threshold));
+  }
+}
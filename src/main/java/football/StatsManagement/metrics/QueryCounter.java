@@ -0,0 +1,87 @@
+package football.StatsManagement.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * スレッドごとに実行したクエリ数を数える
+ * start から stop までの間に QueryMetricsInterceptor を通ったクエリを数える（start していないスレッドでは数えない）
+ * 入れ子にでき、内側で数えたクエリは外側にも加算される（テストでリクエスト全体のクエリ数を数える場合など）
+ * 別のスレッドで実行する処理は propagate で包むと、呼び出し元のスレッドのクエリ数に加算される
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<Deque<AtomicInteger>> COUNTS = new ThreadLocal<>();
+
+  private QueryCounter() {
+  }
+
+  /**
+   * 数え始める
+   */
+  public static void start() {
+    Deque<AtomicInteger> counts = COUNTS.get();
+    if (counts == null) {
+      counts = new ArrayDeque<>();
+      COUNTS.set(counts);
+    }
+    counts.push(new AtomicInteger());
+  }
+
+  /**
+   * 最後に start したものを数え終わる
+   * @return start してから実行したクエリ数（start していない場合は0）
+   */
+  public static int stop() {
+    Deque<AtomicInteger> counts = COUNTS.get();
+    if (counts == null) {
+      return 0;
+    }
+    AtomicInteger count = counts.pop();
+    if (counts.isEmpty()) {
+      COUNTS.remove();
+    }
+    return count.get();
+  }
+
+  /**
+   * 現在までのクエリ数を取得する
+   * @return 最後に start してから実行したクエリ数（start していない場合は0）
+   */
+  public static int current() {
+    Deque<AtomicInteger> counts = COUNTS.get();
+    return counts == null ? 0 : counts.peek().get();
+  }
+
+  /**
+   * 別のスレッドで実行した処理のクエリも、呼び出し元のスレッドで数えているクエリ数に加算されるようにする
+   * （呼び出し元は処理の完了を待つまで start・stop しないこと）
+   * @param task
+   * @return 呼び出し元のスレッドのカウンタを引き継いで実行する処理
+   */
+  public static <T> Callable<T> propagate(Callable<T> task) {
+    Deque<AtomicInteger> counts = COUNTS.get();
+    if (counts == null) {
+      return task;
+    }
+    return () -> {
+      COUNTS.set(counts);
+      try {
+        return task.call();
+      } finally {
+        COUNTS.remove();
+      }
+    };
+  }
+
+  static void increment() {
+    Deque<AtomicInteger> counts = COUNTS.get();
+    if (counts != null) {
+      for (AtomicInteger count : counts) {
+        count.incrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package football.StatsManagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * マッパーの呼び出しごとに実行時間と取得件数を記録する MyBatis のプラグイン
+ * football.repository（実行時間）と football.repository.rows（SELECTの取得件数）をマッパーのメソッド名ごとに記録し、
+ * QueryCounter で数えているスレッドではクエリ数を加算する
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class QueryMetricsInterceptor implements Interceptor {
+
+  private final MeterRegistry registry;
+
+  public QueryMetricsInterceptor(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    String statement = statementName(mappedStatement.getId());
+    String type = mappedStatement.getSqlCommandType().name();
+    QueryCounter.increment();
+    Timer.Sample sample = Timer.start(registry);
+    String exception = "none";
+    try {
+      Object result = invocation.proceed();
+      if (result instanceof Collection<?> rows) {
+        DistributionSummary.builder("football.repository.rows")
+            .description("Rows returned by mapper calls")
+            .tag("statement", statement)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(rows.size());
+      }
+      return result;
+    } catch (Throwable e) {
+      exception = ExceptionUtil.unwrapThrowable(e).getClass().getSimpleName();
+      throw e;
+    } finally {
+      // Cursor は読み込みが終わるまでの時間ではなく、クエリを発行するまでの時間を記録する
+      sample.stop(Timer.builder("football.repository")
+          .description("Latency of mapper calls")
+          .tag("statement", statement)
+          .tag("type", type)
+          .tag("exception", exception)
+          .publishPercentileHistogram()
+          .register(registry));
+    }
+  }
+
+  // "football.StatsManagement.repository.FootballRepository.selectClub" → "selectClub"
+  private static String statementName(String id) {
+    return id.substring(id.lastIndexOf('.') + 1);
+  }
+}
@@ -0,0 +1,54 @@
+package football.StatsManagement.model.data;
+
+/**
+ * 選手の (クラブ, シーズン) ごとの成績の集計（player_season_totals）
+ * 列の順序は @Select の列の順序に合わせること
+ * @param firstStatId (クラブ, シーズン) ごとの最初の試合成績のID（通算成績の表示順に使用）
+ */
+public record PlayerSeasonTotal(
+    int playerId,
+    int clubId,
+    int seasonId,
+    int games,
+    int starterGames,
+    int goals,
+    int assists,
+    int minutes,
+    int yellowCards,
+    int redCards,
+    int firstStatId) {
+
+  /**
+   * 試合成績1件分の集計を作成する（登録済みでIDが採番されていること）
+   * @param seasonId
+   * @param playerGameStat
+   * @return playerSeasonTotal
+   */
+  public static PlayerSeasonTotal of(int seasonId, PlayerGameStat playerGameStat) {
+    return new PlayerSeasonTotal(playerGameStat.getPlayerId(), playerGameStat.getClubId(), seasonId,
+        1, playerGameStat.isStarter() ? 1 : 0, playerGameStat.getGoals(), playerGameStat.getAssists(),
+        playerGameStat.getMinutes(), playerGameStat.getYellowCards(), playerGameStat.getRedCards(), playerGameStat.getId());
+  }
+
+  /**
+   * 同じ (選手, クラブ, シーズン) の集計を合算する
+   * @param other
+   * @return playerSeasonTotal
+   */
+  public PlayerSeasonTotal plus(PlayerSeasonTotal other) {
+    return new PlayerSeasonTotal(playerId, clubId, seasonId,
+        games + other.games, starterGames + other.starterGames, goals + other.goals, assists + other.assists,
+        minutes + other.minutes, yellowCards + other.yellowCards, redCards + other.redCards,
+        Math.min(firstStatId, other.firstStatId));
+  }
+
+  /**
+   * 集計のキー
+   * @return key
+   */
+  public Key key() {
+    return new Key(playerId, clubId, seasonId);
+  }
+
+  public record Key(int playerId, int clubId, int seasonId) {}
+}
@@ -44,98 +44,19 @@ public class ClubForStanding {
 
   public static ClubForStanding initialClubForStanding (int seasonId, Club club, FootballService service) {
     List<GameResult> gameResults = service.getGameResultsByClubAndSeason(seasonId, club.getId());
-    int gamesPlayed = gameResults.size();
-    int wins = getWins(gameResults, club.getId());
-    int draws = getDraws(gameResults);
-    int losses = gamesPlayed - wins - draws;
-    int points = wins * 3 + draws;
-    int goalsFor = getGoalsFor(gameResults, club.getId());
-    int goalsAgainst = getGoalsAgainst(gameResults, club.getId());
-    int goalDifference = goalsFor - goalsAgainst;
-
-    return new ClubForStanding(gameResults, club, gamesPlayed, wins, draws, losses, points, goalsFor, goalsAgainst, goalDifference);
-  }
-
-  // コンストラクタ用の値を取得するメソッド
-  private static int getWins(List<GameResult> gameResults, int clubId) {
-    int wins = 0;
-    for (GameResult gameResult : gameResults) {
-      if (gameResult.getWinnerClubId() == null) {
-        continue;
-      }
-      wins += gameResult.getWinnerClubId() == clubId ? 1 : 0;
-    }
-    return wins;
-  }
-
-  private static int getDraws(List<GameResult> gameResults) {
-    int draws = 0;
-    for (GameResult gameResult : gameResults) {
-      draws += gameResult.getWinnerClubId() == null ? 1 : 0;
-    }
-    return draws;
-  }
-
-  private static int getGoalsFor(List<GameResult> gameResults, int clubId) {
-    int goalsFor = 0;
-    for (GameResult gameResult : gameResults) {
-      goalsFor += gameResult.getHomeClubId() == clubId ? gameResult.getHomeScore() : 0;
-      goalsFor += gameResult.getAwayClubId() == clubId ? gameResult.getAwayScore() : 0;
-    }
-    return goalsFor;
-  }
-
-  private static int getGoalsAgainst(List<GameResult> gameResults, int clubId) {
-    int goalsAgainst = 0;
-    for (GameResult gameResult : gameResults) {
-      goalsAgainst += gameResult.getHomeClubId() == clubId ? gameResult.getAwayScore() : 0;
-      goalsAgainst += gameResult.getAwayClubId() == clubId ? gameResult.getHomeScore() : 0;
-    }
-    return goalsAgainst;
-  }
-
-  // 2クラブ間の成績比較のためのメソッド
-  public int getPointsAgainst(int idOfClubAgainst) {
-    List<GameResult> gameResults = this.getGameResults().stream()
-        .filter(gameResult -> gameResult.getHomeClubId() == idOfClubAgainst || gameResult.getAwayClubId() == idOfClubAgainst)
-        .toList();
-    int pointsAgainst = 0;
-    for (GameResult gameResult : gameResults) {
-      if (gameResult.getWinnerClubId() == null) {
-        pointsAgainst += 1;
-      } else if (gameResult.getWinnerClubId() == this.getClub().getId()) {
-        pointsAgainst += 3;
-      }
-    }
-    return pointsAgainst;
-  }
-
-  public int getGoalDifferencesAgainst(int idOfClubAgainst) {
-    int differencesAgainst = 0;
-    for (GameResult gameResult : this.getGameResults()) {
-      if (gameResult.getHomeClubId() == idOfClubAgainst) {
-        differencesAgainst += gameResult.getAwayScore() - gameResult.getHomeScore();
-      } else if (gameResult.getAwayClubId() == idOfClubAgainst) {
-        differencesAgainst += gameResult.getHomeScore() - gameResult.getAwayScore();
-      }
-    }
-    return differencesAgainst;
-  }
-
-  public int getAwayGoalsAgainst(int idOfClubAgainst) {
-    int awayGoalsAgainst = this.getGameResults().stream()
-        .filter(gameResult -> gameResult.getHomeClubId() == idOfClubAgainst)
-        .mapToInt(GameResult::getAwayScore).sum();
-    return awayGoalsAgainst;
+    return initialClubForStandings(List.of(club), gameResults).get(0);
   }
 
-  public int getGamesAgainst(int idOfClubAgainst) {
-    return (int) this.getGameResults().stream()
-        .filter(gameResult -> gameResult.getHomeClubId() == idOfClubAgainst || gameResult.getAwayClubId() == idOfClubAgainst)
-        .count();
+  /**
+   * リーグ・シーズンの全試合結果から、全クラブの順位用成績を1回の走査で作成する
+   * @param clubs
+   * @param gameResults
+   * @return clubForStandings（clubsと同じ順序）
+   */
+  public static List<ClubForStanding> initialClubForStandings(List<Club> clubs, List<GameResult> gameResults) {
+    return StandingAggregate.of(clubs, gameResults).toClubForStandings();
   }
 
-
   // テスト用にequalsとhashCodeをoverride
   @Override
   public boolean equals(Object o) {
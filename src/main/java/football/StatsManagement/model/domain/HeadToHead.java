@@ -0,0 +1,102 @@
+package football.StatsManagement.model.domain;
+
+import football.StatsManagement.model.data.GameResult;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 当該チーム間の成績をクラブの枠番号（slot）で引ける行列
+ * 順位計算1回につき1度だけ作成し、全てのタイブレークで共有する
+ * 値は [slot * size + opponentSlot] の位置に「slotのクラブから見たopponentSlotとの成績」として保持する
+ */
+public class HeadToHead {
+
+  private final Map<Integer, Integer> slots;
+  private final int size;
+  private final int[] points;
+  private final int[] goalDifferences;
+  private final int[] awayGoals;
+  private final int[] games;
+
+  private HeadToHead(Map<Integer, Integer> slots, int size) {
+    this.slots = slots;
+    this.size = size;
+    this.points = new int[size * size];
+    this.goalDifferences = new int[size * size];
+    this.awayGoals = new int[size * size];
+    this.games = new int[size * size];
+  }
+
+  /**
+   * 順位用成績のリストから当該チーム間の成績行列を作成する
+   * @param clubForStandings
+   * @return headToHead
+   */
+  public static HeadToHead of(List<ClubForStanding> clubForStandings) {
+    Map<Integer, Integer> slots = new HashMap<>();
+    for (int i = 0; i < clubForStandings.size(); i++) {
+      slots.put(clubForStandings.get(i).getClub().getId(), i);
+    }
+    HeadToHead headToHead = new HeadToHead(slots, clubForStandings.size());
+    for (int i = 0; i < clubForStandings.size(); i++) {
+      ClubForStanding clubForStanding = clubForStandings.get(i);
+      int clubId = clubForStanding.getClub().getId();
+      for (GameResult gameResult : clubForStanding.getGameResults()) {
+        headToHead.add(i, clubId, gameResult);
+      }
+    }
+    return headToHead;
+  }
+
+  // slotのクラブから見た1試合分の成績を加算する（対戦相手がリーグ外の場合は無視）
+  private void add(int slot, int clubId, GameResult gameResult) {
+    boolean isHome = gameResult.getHomeClubId() == clubId;
+    Integer opponentSlot = slots.get(isHome ? gameResult.getAwayClubId() : gameResult.getHomeClubId());
+    if (opponentSlot == null) {
+      return;
+    }
+    int index = slot * size + opponentSlot;
+    games[index]++;
+    if (gameResult.getWinnerClubId() == null) {
+      points[index] += 1;
+    } else if (gameResult.getWinnerClubId() == clubId) {
+      points[index] += 3;
+    }
+    if (isHome) {
+      goalDifferences[index] += gameResult.getHomeScore() - gameResult.getAwayScore();
+    } else {
+      goalDifferences[index] += gameResult.getAwayScore() - gameResult.getHomeScore();
+      awayGoals[index] += gameResult.getAwayScore();
+    }
+  }
+
+  /**
+   * クラブIDに対応する枠番号を取得する
+   * @param clubId
+   * @return slot
+   */
+  public int slotOf(int clubId) {
+    return slots.get(clubId);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getPoints(int slot, int opponentSlot) {
+    return points[slot * size + opponentSlot];
+  }
+
+  public int getGoalDifferences(int slot, int opponentSlot) {
+    return goalDifferences[slot * size + opponentSlot];
+  }
+
+  public int getAwayGoals(int slot, int opponentSlot) {
+    return awayGoals[slot * size + opponentSlot];
+  }
+
+  public int getGames(int slot, int opponentSlot) {
+    return games[slot * size + opponentSlot];
+  }
+}
@@ -0,0 +1,22 @@
+package football.StatsManagement.model.domain;
+
+import java.util.List;
+
+/**
+ * 一括取り込みの結果
+ * @param imported 登録した試合数
+ * @param failed 登録できなかった行数
+ * @param errors 行ごとのエラー（件数が多い場合は先頭から MAX_ERRORS 件のみ）
+ */
+public record ImportReport(int imported, int failed, List<RowError> errors) {
+
+  // レポートに含めるエラーの上限（取り込むファイルが大きくてもメモリ使用量が増え続けないようにする）
+  public static final int MAX_ERRORS = 1000;
+
+  /**
+   * 行ごとのエラー
+   * @param line 行番号（1始まり）
+   * @param message エラー内容
+   */
+  public record RowError(int line, String message) {}
+}
@@ -0,0 +1,48 @@
+package football.StatsManagement.model.domain;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import football.StatsManagement.exception.FootballException;
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * ランキングの対象とする成績
+ * SQLに埋め込む式は列挙型で定義したもののみとし、リクエストの値をそのまま埋め込まない
+ */
+@Getter
+public enum LeaderStat {
+  GOALS("t.goals"),
+  ASSISTS("t.assists"),
+  MINUTES("t.minutes"),
+  CARDS("t.yellow_cards + t.red_cards");
+
+  // 選手シーズン成績の集計（別名 t）から値を求める式
+  private final String expression;
+
+  LeaderStat(String expression) {
+    this.expression = expression;
+  }
+
+  /**
+   * リクエスト・レスポンスでの名前
+   * @return goals, assists, minutes または cards
+   */
+  @JsonValue
+  public String key() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 文字列からランキングの対象とする成績を取得する（大文字・小文字は区別しない）
+   * @param stat
+   * @return leaderStat
+   * @throws FootballException
+   */
+  public static LeaderStat of(String stat) throws FootballException {
+    try {
+      return valueOf(stat.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new FootballException("Stat must be goals, assists, minutes or cards");
+    }
+  }
+}
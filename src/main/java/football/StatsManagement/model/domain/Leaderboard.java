@@ -0,0 +1,29 @@
+package football.StatsManagement.model.domain;
+
+import java.util.List;
+
+/**
+ * リーグ・シーズンごとの選手ランキング（1ページ分）
+ * @param leagueId
+ * @param seasonId
+ * @param stat ランキングの対象とする成績
+ * @param offset このページの先頭の位置（0始まり）
+ * @param nextOffset 次のページの先頭の位置（次のページがない場合は null）
+ * @param leaders 値の大きい順（同値の場合は出場時間の短い順、選手ID・クラブIDの昇順）
+ */
+public record Leaderboard(int leagueId, int seasonId, LeaderStat stat, int offset, Integer nextOffset, List<Leader> leaders) {
+
+  /**
+   * ランキングの1行（シーズン中に移籍した選手は、選手シーズン成績と同じくクラブごとに別の行とする）
+   * 列の順序は FootballRepository.selectLeaders の列の順序に合わせること
+   * @param rank 順位（同値の場合は同順位）
+   * @param playerId
+   * @param playerName
+   * @param clubId
+   * @param clubName
+   * @param value ランキングの対象とする成績の値
+   * @param games
+   * @param minutes
+   */
+  public record Leader(int rank, int playerId, String playerName, int clubId, String clubName, int value, int games, int minutes) {}
+}
@@ -1,14 +1,18 @@
 package football.StatsManagement.model.domain;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import football.StatsManagement.exception.ResourceNotFoundException;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
 import football.StatsManagement.service.FootballService;
 import java.util.List;
 import java.util.Objects;
+import org.apache.ibatis.annotations.AutomapConstructor;
 
 public record PlayerSeasonStat(
     int playerId,
+    // 試合ごとの成績は要求された場合のみ含める（含めない場合はJSONに出力しない）
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     List<PlayerGameStat> playerGameStats,
     int seasonId,
     int clubId,
@@ -25,38 +29,36 @@ public record PlayerSeasonStat(
     String seasonName
 ) {
 
+  // @Select用（集計クエリでは試合ごとの成績は取得しない）
+  @AutomapConstructor
+  public PlayerSeasonStat(int playerId, int seasonId, int clubId, int games, int starterGames, int substituteGames,
+      int goals, int assists, int minutes, int yellowCards, int redCards, String playerName, String clubName, String seasonName) {
+    this(playerId, null, seasonId, clubId, games, starterGames, substituteGames, goals, assists, minutes,
+        yellowCards, redCards, playerName, clubName, seasonName);
+  }
+
+  /**
+   * 試合ごとの成績を設定したシーズン成績を取得する
+   * @param playerGameStats
+   * @return playerSeasonStat
+   */
+  public PlayerSeasonStat withPlayerGameStats(List<PlayerGameStat> playerGameStats) {
+    return new PlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, games, starterGames, substituteGames,
+        goals, assists, minutes, yellowCards, redCards, playerName, clubName, seasonName);
+  }
+
   public static PlayerSeasonStat initialPlayerSeasonStat(
       int playerId, List<PlayerGameStat> playerGameStats, int seasonId, int clubId, FootballService service)
       throws ResourceNotFoundException {
-    List<PlayerGameStat> playerGameStatsByClub = playerGameStats.stream()
-        .filter(playerGameStat -> playerGameStat.getClubId() == clubId)
-        .toList();
-    int games = playerGameStatsByClub.size();
-    int starterGames = (int) playerGameStatsByClub.stream()
-        .filter(PlayerGameStat::isStarter)
-        .count();
-    int substituteGames = games - starterGames;
-    int goals = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getGoals)
-        .sum();
-    int assists = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getAssists)
-        .sum();
-    int minutes = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getMinutes)
-        .sum();
-    int yellowCards = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getYellowCards)
-        .sum();
-    int redCards = playerGameStatsByClub.stream()
-        .mapToInt(PlayerGameStat::getRedCards)
-        .sum();
+    // クラブの成績のみを1回の走査で合計する
+    StatTotals totals = StatTotals.ofClub(playerGameStats, clubId);
     String playerName = service.getPlayer(playerId).getName();
     String clubName = service.getClub(clubId).getName();
     String seasonName = service.getSeason(seasonId).getName();
 
-    return new PlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, games,
-        starterGames, substituteGames, goals, assists, minutes, yellowCards, redCards, playerName, clubName, seasonName);
+    return new PlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, totals.getGames(),
+        totals.getStarterGames(), totals.getSubstituteGames(), totals.getGoals(), totals.getAssists(), totals.getMinutes(),
+        totals.getYellowCards(), totals.getRedCards(), playerName, clubName, seasonName);
   }
 
   // テスト用にequalsとhashCodeをoverride
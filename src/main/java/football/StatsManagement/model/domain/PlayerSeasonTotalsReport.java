@@ -0,0 +1,8 @@
+package football.StatsManagement.model.domain;
+
+/**
+ * 選手の (クラブ, シーズン) ごとの集計を作り直した結果
+ * @param rebuilt 作り直した集計の件数
+ * @param mismatched 作り直す前の集計と一致しなかった件数（0であれば集計は試合成績と整合していた）
+ */
+public record PlayerSeasonTotalsReport(int rebuilt, int mismatched) {}
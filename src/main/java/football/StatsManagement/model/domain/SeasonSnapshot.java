@@ -0,0 +1,334 @@
+package football.StatsManagement.model.domain;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.Player;
+import football.StatsManagement.model.data.PlayerGameStat;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * シーズンの選手試合成績を列ごとの int 配列で保持する読み取り専用のスナップショット（分析用）
+ * 1行が1件の選手試合成績に対応し、選手とクラブは辞書の番号（code）で保持する
+ * PlayerGameStat のリストより小さく、集計は配列を順に読むだけのループで行う（JITによりベクトル化されやすい）
+ * 作成後は変更しないため、複数のスレッドから同時に参照してよい
+ */
+public class SeasonSnapshot {
+
+  /**
+   * 集計の対象とする列
+   */
+  public enum Column {
+    GOALS,
+    ASSISTS,
+    MINUTES,
+    YELLOW_CARDS,
+    RED_CARDS
+  }
+
+  private final int seasonId;
+  private final int rows;
+  private final int[] gameIds;
+  private final int[] playerCodes;
+  private final int[] clubCodes;
+  private final int[] goals;
+  private final int[] assists;
+  private final int[] minutes;
+  private final int[] yellowCards;
+  private final int[] redCards;
+  private final Dictionary players;
+  private final Dictionary clubs;
+
+  private SeasonSnapshot(int seasonId, Builder builder, Dictionary players, Dictionary clubs) {
+    this.seasonId = seasonId;
+    this.rows = builder.rows;
+    this.gameIds = Arrays.copyOf(builder.gameIds, rows);
+    this.goals = Arrays.copyOf(builder.goals, rows);
+    this.assists = Arrays.copyOf(builder.assists, rows);
+    this.minutes = Arrays.copyOf(builder.minutes, rows);
+    this.yellowCards = Arrays.copyOf(builder.yellowCards, rows);
+    this.redCards = Arrays.copyOf(builder.redCards, rows);
+    this.players = players;
+    this.clubs = clubs;
+    this.playerCodes = players.encode(builder.playerIds, rows);
+    this.clubCodes = clubs.encode(builder.clubIds, rows);
+  }
+
+  /**
+   * スナップショットを作成する Builder（選手試合成績を1件ずつ追加する）
+   * @param seasonId
+   * @return builder
+   */
+  public static Builder builder(int seasonId) {
+    return new Builder(seasonId);
+  }
+
+  public int seasonId() {
+    return seasonId;
+  }
+
+  /**
+   * 選手試合成績の件数
+   * @return rows
+   */
+  public int rows() {
+    return rows;
+  }
+
+  /**
+   * 出場した選手の数（選手の code は 0 〜 playerCount() - 1）
+   * @return playerCount
+   */
+  public int playerCount() {
+    return players.size();
+  }
+
+  /**
+   * 出場した選手の所属クラブの数（クラブの code は 0 〜 clubCount() - 1）
+   * @return clubCount
+   */
+  public int clubCount() {
+    return clubs.size();
+  }
+
+  /**
+   * 試合の数
+   * @return games
+   */
+  public int games() {
+    int[] sorted = gameIds.clone();
+    Arrays.sort(sorted);
+    int games = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        games++;
+      }
+    }
+    return games;
+  }
+
+  public int playerId(int code) {
+    return players.id(code);
+  }
+
+  public String playerName(int code) {
+    return players.name(code);
+  }
+
+  public int clubId(int code) {
+    return clubs.id(code);
+  }
+
+  public String clubName(int code) {
+    return clubs.name(code);
+  }
+
+  /**
+   * 選手IDに対応する code を取得する
+   * @param playerId
+   * @return code（出場していない場合は -1）
+   */
+  public int playerCode(int playerId) {
+    return players.code(playerId);
+  }
+
+  /**
+   * シーズン全体の合計
+   * @param column
+   * @return total
+   */
+  public long sum(Column column) {
+    int[] values = values(column);
+    long total = 0;
+    for (int i = 0; i < rows; i++) {
+      total += values[i];
+    }
+    return total;
+  }
+
+  /**
+   * 選手ごとの合計（クラブをまたいで合算する）
+   * @param column
+   * @return 選手の code を添字とする合計
+   */
+  public int[] sumByPlayer(Column column) {
+    return sumBy(playerCodes, players.size(), values(column));
+  }
+
+  /**
+   * クラブごとの合計
+   * @param column
+   * @return クラブの code を添字とする合計
+   */
+  public int[] sumByClub(Column column) {
+    return sumBy(clubCodes, clubs.size(), values(column));
+  }
+
+  /**
+   * 選手ごとの出場試合数
+   * @return 選手の code を添字とする出場試合数
+   */
+  public int[] gamesByPlayer() {
+    int[] games = new int[players.size()];
+    for (int i = 0; i < rows; i++) {
+      games[playerCodes[i]]++;
+    }
+    return games;
+  }
+
+  private int[] sumBy(int[] codes, int size, int[] values) {
+    int[] totals = new int[size];
+    for (int i = 0; i < rows; i++) {
+      totals[codes[i]] += values[i];
+    }
+    return totals;
+  }
+
+  private int[] values(Column column) {
+    return switch (column) {
+      case GOALS -> goals;
+      case ASSISTS -> assists;
+      case MINUTES -> minutes;
+      case YELLOW_CARDS -> yellowCards;
+      case RED_CARDS -> redCards;
+    };
+  }
+
+  /**
+   * 選手試合成績を列ごとの配列に追加していく Builder
+   * 配列は足りなくなった時点で倍に広げ、build で件数分に切り詰める
+   */
+  public static class Builder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int seasonId;
+    private int rows;
+    private int[] gameIds = new int[INITIAL_CAPACITY];
+    private int[] playerIds = new int[INITIAL_CAPACITY];
+    private int[] clubIds = new int[INITIAL_CAPACITY];
+    private int[] goals = new int[INITIAL_CAPACITY];
+    private int[] assists = new int[INITIAL_CAPACITY];
+    private int[] minutes = new int[INITIAL_CAPACITY];
+    private int[] yellowCards = new int[INITIAL_CAPACITY];
+    private int[] redCards = new int[INITIAL_CAPACITY];
+
+    private Builder(int seasonId) {
+      this.seasonId = seasonId;
+    }
+
+    /**
+     * 選手試合成績を1件追加する
+     * @param playerGameStat
+     */
+    public void add(PlayerGameStat playerGameStat) {
+      if (rows == gameIds.length) {
+        grow();
+      }
+      gameIds[rows] = playerGameStat.getGameId();
+      playerIds[rows] = playerGameStat.getPlayerId();
+      clubIds[rows] = playerGameStat.getClubId();
+      goals[rows] = playerGameStat.getGoals();
+      assists[rows] = playerGameStat.getAssists();
+      minutes[rows] = playerGameStat.getMinutes();
+      yellowCards[rows] = playerGameStat.getYellowCards();
+      redCards[rows] = playerGameStat.getRedCards();
+      rows++;
+    }
+
+    /**
+     * 出場した選手のID（重複なし、昇順）
+     * 名前の辞書を作成するために、build の前に選手を取得する際に使用する
+     * @return playerIds
+     */
+    public int[] distinctPlayerIds() {
+      return distinct(playerIds, rows);
+    }
+
+    /**
+     * スナップショットを作成する
+     * @param players 出場した選手（名前の辞書に使用する。含まれない選手の名前は null）
+     * @param clubs 出場した選手の所属クラブ（同上）
+     * @return seasonSnapshot
+     */
+    public SeasonSnapshot build(List<Player> players, List<Club> clubs) {
+      Dictionary playerDictionary = Dictionary.of(distinct(playerIds, rows));
+      players.forEach(player -> playerDictionary.putName(player.getId(), player.getName()));
+      Dictionary clubDictionary = Dictionary.of(distinct(clubIds, rows));
+      clubs.forEach(club -> clubDictionary.putName(club.getId(), club.getName()));
+      return new SeasonSnapshot(seasonId, this, playerDictionary, clubDictionary);
+    }
+
+    private void grow() {
+      int capacity = gameIds.length * 2;
+      gameIds = Arrays.copyOf(gameIds, capacity);
+      playerIds = Arrays.copyOf(playerIds, capacity);
+      clubIds = Arrays.copyOf(clubIds, capacity);
+      goals = Arrays.copyOf(goals, capacity);
+      assists = Arrays.copyOf(assists, capacity);
+      minutes = Arrays.copyOf(minutes, capacity);
+      yellowCards = Arrays.copyOf(yellowCards, capacity);
+      redCards = Arrays.copyOf(redCards, capacity);
+    }
+
+    private static int[] distinct(int[] ids, int rows) {
+      int[] sorted = Arrays.copyOf(ids, rows);
+      Arrays.sort(sorted);
+      int size = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        if (i == 0 || sorted[i] != sorted[size - 1]) {
+          sorted[size++] = sorted[i];
+        }
+      }
+      return Arrays.copyOf(sorted, size);
+    }
+  }
+
+  // IDと名前の辞書（code は昇順に並べたIDの位置）
+  private static class Dictionary {
+
+    private final int[] ids;
+    private final String[] names;
+
+    private Dictionary(int[] ids) {
+      this.ids = ids;
+      this.names = new String[ids.length];
+    }
+
+    static Dictionary of(int[] distinctIds) {
+      return new Dictionary(distinctIds);
+    }
+
+    // 作成時（公開前）のみ呼び出す
+    void putName(int id, String name) {
+      int code = code(id);
+      if (code >= 0) {
+        names[code] = name;
+      }
+    }
+
+    int[] encode(int[] values, int rows) {
+      int[] codes = new int[rows];
+      for (int i = 0; i < rows; i++) {
+        codes[i] = Arrays.binarySearch(ids, values[i]);
+      }
+      return codes;
+    }
+
+    int code(int id) {
+      int code = Arrays.binarySearch(ids, id);
+      return code >= 0 ? code : -1;
+    }
+
+    int size() {
+      return ids.length;
+    }
+
+    int id(int code) {
+      return ids[code];
+    }
+
+    String name(int code) {
+      return names[code];
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package football.StatsManagement.model.domain;
+
+import football.StatsManagement.model.domain.SeasonSnapshot.Column;
+
+/**
+ * シーズン全体の成績の合計
+ * @param seasonId
+ * @param games 選手成績が登録された試合の数
+ * @param players 出場した選手の数
+ * @param clubs 出場した選手の所属クラブの数
+ * @param goals
+ * @param assists
+ * @param minutes
+ * @param yellowCards
+ * @param redCards
+ */
+public record SeasonSummary(int seasonId, int games, int players, int clubs,
+    long goals, long assists, long minutes, long yellowCards, long redCards) {
+
+  /**
+   * スナップショットから合計を求める
+   * @param snapshot
+   * @return seasonSummary
+   */
+  public static SeasonSummary of(SeasonSnapshot snapshot) {
+    return new SeasonSummary(snapshot.seasonId(), snapshot.games(), snapshot.playerCount(), snapshot.clubCount(),
+        snapshot.sum(Column.GOALS), snapshot.sum(Column.ASSISTS), snapshot.sum(Column.MINUTES),
+        snapshot.sum(Column.YELLOW_CARDS), snapshot.sum(Column.RED_CARDS));
+  }
+}
@@ -1,12 +1,14 @@
 package football.StatsManagement.model.domain;
 
 import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.data.League;
+import football.StatsManagement.model.data.Season;
 import football.StatsManagement.service.FootballService;
-import football.StatsManagement.model.data.Club;
+import football.StatsManagement.utils.FanOut;
 import football.StatsManagement.utils.RankingUtils;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public record Standing(
     int leagueId,
@@ -16,26 +18,29 @@ public record Standing(
     String seasonName) {
 
   public static Standing initialStanding(int leagueId, int seasonId, FootballService service) throws ResourceNotFoundException {
-    List<Club> clubs = service.getClubsByLeague(leagueId);
+    List<ClubForStanding> clubForStandings;
+    String leagueName;
+    String seasonName;
+    // クラブごとの成績・リーグ・シーズンは互いに独立しているため並行に取得する
+    try (FanOut.Scope scope = service.openFanOut()) {
+      // 試合結果の登録時に更新される集計から、クラブごとの成績を取得
+      Supplier<List<ClubForStanding>> forkedClubForStandings = scope.fork(() -> service.getClubForStandings(leagueId, seasonId));
+      Supplier<League> league = scope.fork(() -> service.getLeague(leagueId));
+      Supplier<Season> season = scope.fork(() -> service.getSeason(seasonId));
+      scope.join();
+      clubForStandings = forkedClubForStandings.get();
+      leagueName = league.get().getName();
+      seasonName = season.get().getName();
+    }
     // リーグによって異なる順位決定方法
-    List<ClubForStanding> rankedClubForStandings = rankedClubsForStanding(clubs, seasonId, leagueId, service);
+    List<ClubForStanding> rankedClubForStandings = RankingUtils.sortedClubForStandings(leagueId, clubForStandings);
     // 順位を設定
     for (int i = 0; i < rankedClubForStandings.size(); i++) {
       rankedClubForStandings.get(i).setPosition(i + 1);
     }
-    String leagueName = service.getLeague(leagueId).getName();
-    String seasonName = service.getSeason(seasonId).getName();
     return new Standing(leagueId, seasonId, rankedClubForStandings, leagueName, seasonName);
   }
 
-  private static List<ClubForStanding> rankedClubsForStanding(List<Club> clubs, int seasonId, int leagueId, FootballService service) {
-    List<ClubForStanding> clubForStandings = clubs.stream()
-        .map(club -> ClubForStanding.initialClubForStanding(seasonId, club, service))
-        .toList();
-
-    return RankingUtils.sortedClubForStandings(leagueId, clubForStandings);
-  }
-
   // テスト用にequalsとhashCodeをオーバーライド
   @Override
   public boolean equals(Object o) {
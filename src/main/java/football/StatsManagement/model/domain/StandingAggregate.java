@@ -0,0 +1,134 @@
+package football.StatsManagement.model.domain;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * リーグ・シーズンごとに保持する順位表の集計
+ * 試合結果の登録時に差分のみを反映し、参照時はクラブ数分の ClubForStanding を作成するだけで済むようにする
+ * クラブごとの試合結果リストは更新のたびに作り直すため、参照側に渡したリストが後から変わることはない
+ */
+public class StandingAggregate {
+
+  private final List<Club> clubs;
+  private final Map<Integer, Integer> slots = new HashMap<>();
+  private final List<List<GameResult>> gameResults;
+  private final int[] wins;
+  private final int[] draws;
+  private final int[] goalsFor;
+  private final int[] goalsAgainst;
+  // 反映済みの試合ID（同じ試合を二重に反映しないため）
+  private final Set<Integer> gameIds = new HashSet<>();
+
+  private StandingAggregate(List<Club> clubs) {
+    this.clubs = List.copyOf(clubs);
+    int size = clubs.size();
+    this.gameResults = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      slots.put(clubs.get(i).getId(), i);
+      gameResults.add(List.of());
+    }
+    this.wins = new int[size];
+    this.draws = new int[size];
+    this.goalsFor = new int[size];
+    this.goalsAgainst = new int[size];
+  }
+
+  /**
+   * クラブと試合結果から集計を作成する（試合結果は1回だけ走査する）
+   * @param clubs
+   * @param gameResults
+   * @return standingAggregate
+   */
+  public static StandingAggregate of(List<Club> clubs, List<GameResult> gameResults) {
+    StandingAggregate aggregate = new StandingAggregate(clubs);
+    List<List<GameResult>> gameResultsByClub = new ArrayList<>(clubs.size());
+    for (int i = 0; i < clubs.size(); i++) {
+      gameResultsByClub.add(new ArrayList<>());
+    }
+    for (GameResult gameResult : gameResults) {
+      if (!aggregate.gameIds.add(gameResult.getId())) {
+        continue;
+      }
+      for (int slot : aggregate.accumulate(gameResult)) {
+        gameResultsByClub.get(slot).add(gameResult);
+      }
+    }
+    for (int i = 0; i < clubs.size(); i++) {
+      aggregate.gameResults.set(i, List.copyOf(gameResultsByClub.get(i)));
+    }
+    return aggregate;
+  }
+
+  /**
+   * 試合結果1件を差分として反映する
+   * @param gameResult
+   * @return 反映した場合はtrue（反映済みの試合の場合はfalse）
+   */
+  public synchronized boolean apply(GameResult gameResult) {
+    if (!gameIds.add(gameResult.getId())) {
+      return false;
+    }
+    for (int slot : accumulate(gameResult)) {
+      List<GameResult> updated = new ArrayList<>(gameResults.get(slot));
+      updated.add(gameResult);
+      gameResults.set(slot, List.copyOf(updated));
+    }
+    return true;
+  }
+
+  // ホーム・アウェーそれぞれのクラブに1試合分の成績を加算し、加算したクラブの枠番号を返す（リーグ外のクラブは無視）
+  private int[] accumulate(GameResult gameResult) {
+    Integer home = slots.get(gameResult.getHomeClubId());
+    Integer away = slots.get(gameResult.getAwayClubId());
+    Integer winnerClubId = gameResult.getWinnerClubId();
+    if (home != null) {
+      goalsFor[home] += gameResult.getHomeScore();
+      goalsAgainst[home] += gameResult.getAwayScore();
+      if (winnerClubId == null) {
+        draws[home]++;
+      } else if (winnerClubId == gameResult.getHomeClubId()) {
+        wins[home]++;
+      }
+    }
+    if (away != null) {
+      goalsFor[away] += gameResult.getAwayScore();
+      goalsAgainst[away] += gameResult.getHomeScore();
+      if (winnerClubId == null) {
+        draws[away]++;
+      } else if (winnerClubId == gameResult.getAwayClubId()) {
+        wins[away]++;
+      }
+    }
+    if (home != null && away != null) {
+      return new int[] {home, away};
+    } else if (home != null) {
+      return new int[] {home};
+    } else if (away != null) {
+      return new int[] {away};
+    }
+    return new int[0];
+  }
+
+  /**
+   * 現時点の集計から順位用成績を作成する（順位は未設定）
+   * @return clubForStandings（クラブの登録順）
+   */
+  public synchronized List<ClubForStanding> toClubForStandings() {
+    List<ClubForStanding> clubForStandings = new ArrayList<>(clubs.size());
+    for (int i = 0; i < clubs.size(); i++) {
+      int gamesPlayed = gameResults.get(i).size();
+      int losses = gamesPlayed - wins[i] - draws[i];
+      int points = wins[i] * 3 + draws[i];
+      clubForStandings.add(new ClubForStanding(gameResults.get(i), clubs.get(i), gamesPlayed,
+          wins[i], draws[i], losses, points, goalsFor[i], goalsAgainst[i], goalsFor[i] - goalsAgainst[i]));
+    }
+    return clubForStandings;
+  }
+}
@@ -0,0 +1,72 @@
+package football.StatsManagement.model.domain;
+
+import football.StatsManagement.model.data.PlayerGameStat;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 選手試合成績の合計（出場数・先発数・得点・アシスト・出場時間・警告・退場）
+ * 1回の走査で全ての項目を合計し、項目ごとに Stream を作成したり値をボクシングしたりしない
+ * 試合結果の確認とシーズン成績の集計で共有する
+ */
+@Getter
+public class StatTotals {
+
+  private int games;
+  private int starterGames;
+  private int goals;
+  private int assists;
+  private int minutes;
+  private int yellowCards;
+  private int redCards;
+
+  /**
+   * 全ての選手試合成績の合計
+   * @param playerGameStats
+   * @return statTotals
+   */
+  public static StatTotals of(List<PlayerGameStat> playerGameStats) {
+    StatTotals totals = new StatTotals();
+    for (int i = 0; i < playerGameStats.size(); i++) {
+      totals.add(playerGameStats.get(i));
+    }
+    return totals;
+  }
+
+  /**
+   * クラブIDに一致する選手試合成績のみの合計
+   * @param playerGameStats
+   * @param clubId
+   * @return statTotals
+   */
+  public static StatTotals ofClub(List<PlayerGameStat> playerGameStats, int clubId) {
+    StatTotals totals = new StatTotals();
+    for (int i = 0; i < playerGameStats.size(); i++) {
+      PlayerGameStat playerGameStat = playerGameStats.get(i);
+      if (playerGameStat.getClubId() == clubId) {
+        totals.add(playerGameStat);
+      }
+    }
+    return totals;
+  }
+
+  /**
+   * 選手試合成績を1件加算する
+   * @param playerGameStat
+   */
+  public void add(PlayerGameStat playerGameStat) {
+    games++;
+    if (playerGameStat.isStarter()) {
+      starterGames++;
+    }
+    goals += playerGameStat.getGoals();
+    assists += playerGameStat.getAssists();
+    minutes += playerGameStat.getMinutes();
+    yellowCards += playerGameStat.getYellowCards();
+    redCards += playerGameStat.getRedCards();
+  }
+
+  public int getSubstituteGames() {
+    return games - starterGames;
+  }
+}
@@ -6,14 +6,22 @@ import football.StatsManagement.model.data.GameResult;
 import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.PlayerSeasonTotal;
 import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.PlayerSeasonStat;
 import java.util.List;
 import java.util.Optional;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface FootballRepository {
@@ -59,6 +67,20 @@ public interface FootballRepository {
   @Options(useGeneratedKeys = true, keyProperty = "id")
   void insertPlayerGameStat(PlayerGameStat playerGameStats);
 
+  /**
+   * Insert player game stats
+   * 複数行を1文で挿入し、採番されたIDを各要素に設定する（呼び出し側で空のリストを渡さないこと）
+   * @param playerGameStats
+   */
+  @Insert("<script>" +
+      "INSERT INTO player_game_stats (player_id, club_id, number, starter, goals, assists, minutes, yellow_cards, red_cards, game_id) VALUES " +
+      "<foreach item='s' collection='playerGameStats' separator=','>" +
+      "(#{s.playerId}, #{s.clubId}, #{s.number}, #{s.starter}, #{s.goals}, #{s.assists}, #{s.minutes}, #{s.yellowCards}, #{s.redCards}, #{s.gameId})" +
+      "</foreach>" +
+      "</script>")
+  @Options(useGeneratedKeys = true, keyProperty = "id")
+  void insertPlayerGameStats(@Param("playerGameStats") List<PlayerGameStat> playerGameStats);
+
   /**
    * Insert a game result
    * @param gameResult
@@ -67,6 +89,62 @@ public interface FootballRepository {
   @Options(useGeneratedKeys = true, keyProperty = "id")
   void insertGameResult(GameResult gameResult);
 
+  /**
+   * Upsert player season totals
+   * 集計がなければ挿入し、あれば加算する（呼び出し側で空のリストを渡さないこと）
+   * MySQL では挿入する行の別名（AS new）で加算する。H2（テスト）は別名に対応していないため VALUES(col) を使用する
+   * @param playerSeasonTotals 登録した試合成績の (選手, クラブ, シーズン) ごとの集計
+   */
+  @Insert(value = "<script>" +
+      "INSERT INTO player_season_totals (player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id) VALUES " +
+      "<foreach item='t' collection='playerSeasonTotals' separator=','>" +
+      "(#{t.playerId}, #{t.clubId}, #{t.seasonId}, #{t.games}, #{t.starterGames}, #{t.goals}, #{t.assists}, #{t.minutes}, #{t.yellowCards}, #{t.redCards}, #{t.firstStatId})" +
+      "</foreach> AS new " +
+      "ON DUPLICATE KEY UPDATE " +
+      "games = games + new.games, " +
+      "starter_games = starter_games + new.starter_games, " +
+      "goals = goals + new.goals, " +
+      "assists = assists + new.assists, " +
+      "minutes = minutes + new.minutes, " +
+      "yellow_cards = yellow_cards + new.yellow_cards, " +
+      "red_cards = red_cards + new.red_cards, " +
+      "first_stat_id = LEAST(first_stat_id, new.first_stat_id)" +
+      "</script>", databaseId = "mysql")
+  @Insert("<script>" +
+      "INSERT INTO player_season_totals (player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id) VALUES " +
+      "<foreach item='t' collection='playerSeasonTotals' separator=','>" +
+      "(#{t.playerId}, #{t.clubId}, #{t.seasonId}, #{t.games}, #{t.starterGames}, #{t.goals}, #{t.assists}, #{t.minutes}, #{t.yellowCards}, #{t.redCards}, #{t.firstStatId})" +
+      "</foreach> " +
+      "ON DUPLICATE KEY UPDATE " +
+      "games = games + VALUES(games), " +
+      "starter_games = starter_games + VALUES(starter_games), " +
+      "goals = goals + VALUES(goals), " +
+      "assists = assists + VALUES(assists), " +
+      "minutes = minutes + VALUES(minutes), " +
+      "yellow_cards = yellow_cards + VALUES(yellow_cards), " +
+      "red_cards = red_cards + VALUES(red_cards), " +
+      "first_stat_id = LEAST(first_stat_id, VALUES(first_stat_id))" +
+      "</script>")
+  void upsertPlayerSeasonTotals(@Param("playerSeasonTotals") List<PlayerSeasonTotal> playerSeasonTotals);
+
+  /**
+   * Insert player season totals from player game stats
+   * 試合成績から集計を作り直す（seasonIdがnullの場合は全シーズン、事前に deletePlayerSeasonTotals で削除すること）
+   * @param seasonId
+   */
+  @Insert("<script>" +
+      "INSERT INTO player_season_totals (player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id) " +
+      "SELECT pgs.player_id, pgs.club_id, gr.season_id, " +
+      "COUNT(pgs.id), COALESCE(SUM(pgs.starter), 0), COALESCE(SUM(pgs.goals), 0), COALESCE(SUM(pgs.assists), 0), " +
+      "COALESCE(SUM(pgs.minutes), 0), COALESCE(SUM(pgs.yellow_cards), 0), COALESCE(SUM(pgs.red_cards), 0), MIN(pgs.id) " +
+      "FROM player_game_stats pgs " +
+      "JOIN game_results gr ON pgs.game_id = gr.id " +
+      "WHERE pgs.player_id IS NOT NULL AND pgs.club_id IS NOT NULL " +
+      "<if test='seasonId != null'>AND gr.season_id = #{seasonId} </if>" +
+      "GROUP BY pgs.player_id, pgs.club_id, gr.season_id" +
+      "</script>")
+  int insertPlayerSeasonTotalsFromPlayerGameStats(@Param("seasonId") Integer seasonId);
+
   /**
    * Insert a season
    * @param season
@@ -100,6 +178,18 @@ public interface FootballRepository {
   @Select("SELECT * FROM clubs WHERE id = #{id}")
   Optional<Club> selectClub(int id);
 
+  /**
+   * Select clubs by IDs
+   * 呼び出し側で空のリストを渡さないこと（IN () は構文エラーになる）
+   * @param ids
+   * @return
+   */
+  @Select("<script>" +
+      "SELECT * FROM clubs WHERE id IN " +
+      "<foreach item='id' collection='ids' open='(' separator=',' close=')'>#{id}</foreach>" +
+      "</script>")
+  List<Club> selectClubsByIds(@Param("ids") List<Integer> ids);
+
   /**
    * Select a player
    * @param id
@@ -108,6 +198,18 @@ public interface FootballRepository {
   @Select("SELECT * FROM players WHERE id = #{id}")
   Optional<Player> selectPlayer(int id);
 
+  /**
+   * Select players by IDs
+   * 呼び出し側で空のリストを渡さないこと（IN () は構文エラーになる）
+   * @param ids
+   * @return
+   */
+  @Select("<script>" +
+      "SELECT * FROM players WHERE id IN " +
+      "<foreach item='id' collection='ids' open='(' separator=',' close=')'>#{id}</foreach>" +
+      "</script>")
+  List<Player> selectPlayersByIds(@Param("ids") List<Integer> ids);
+
   /**
    * Select a player game stat
    * @param id
@@ -122,9 +224,27 @@ public interface FootballRepository {
    * @param clubId
    * @return
    */
-  @Select("SELECT * FROM game_results WHERE season_id = #{seasonId} AND (home_club_id = #{clubId} OR away_club_id = #{clubId})")
+  // ORでは (season_id, home_club_id) と (season_id, away_club_id) のインデックスを使えないため、UNION ALLで分けて検索する
+  // （ホームとアウェーが同じクラブの試合は登録できないため、重複はしない）
+  @Select("SELECT * FROM game_results WHERE season_id = #{seasonId} AND home_club_id = #{clubId} " +
+      "UNION ALL " +
+      "SELECT * FROM game_results WHERE season_id = #{seasonId} AND away_club_id = #{clubId} " +
+      "ORDER BY id")
   List<GameResult> selectGameResultsByClubAndSeason(int seasonId, int clubId);
 
+  /**
+   * Select game results by league and season
+   * リーグに所属する全クラブの試合結果を1回のクエリで取得する
+   * @param leagueId
+   * @param seasonId
+   * @return
+   */
+  @Select("SELECT gr.* FROM game_results gr " +
+      "WHERE gr.season_id = #{seasonId} " +
+      "AND EXISTS (SELECT 1 FROM clubs c WHERE c.league_id = #{leagueId} AND c.id IN (gr.home_club_id, gr.away_club_id)) " +
+      "ORDER BY gr.id")
+  List<GameResult> selectGameResultsByLeagueAndSeason(int leagueId, int seasonId);
+
   /**
    * Select game result
    * @param id
@@ -133,6 +253,18 @@ public interface FootballRepository {
   @Select("SELECT * FROM game_results WHERE id = #{id}")
   Optional<GameResult> selectGameResult(int id);
 
+  /**
+   * Select game results by IDs
+   * 呼び出し側で空のリストを渡さないこと（IN () は構文エラーになる）
+   * @param ids
+   * @return
+   */
+  @Select("<script>" +
+      "SELECT * FROM game_results WHERE id IN " +
+      "<foreach item='id' collection='ids' open='(' separator=',' close=')'>#{id}</foreach>" +
+      "</script>")
+  List<GameResult> selectGameResultsByIds(@Param("ids") List<Integer> ids);
+
   /**
    * Select player game stats by player
    * @param playerId
@@ -207,6 +339,27 @@ public interface FootballRepository {
   @Select("SELECT * FROM player_game_stats")
   List<PlayerGameStat> selectPlayerGameStats();
 
+  /**
+   * Select all game results as a cursor
+   * エクスポート用（全件をListにせず、トランザクション内で少しずつ読み込む）
+   * MySQL では fetchSize = Integer.MIN_VALUE で1行ずつストリーミングし、その他のDBでは fetchSize 件ずつ読み込む
+   * @return
+   */
+  @Select("SELECT * FROM game_results ORDER BY id")
+  @Options(fetchSize = Integer.MIN_VALUE, databaseId = "mysql")
+  @Options(fetchSize = 1000)
+  Cursor<GameResult> selectGameResultsCursor();
+
+  /**
+   * Select all player game stats as a cursor
+   * エクスポート用（全件をListにせず、トランザクション内で少しずつ読み込む。fetchSize は selectGameResultsCursor と同じ）
+   * @return
+   */
+  @Select("SELECT * FROM player_game_stats ORDER BY id")
+  @Options(fetchSize = Integer.MIN_VALUE, databaseId = "mysql")
+  @Options(fetchSize = 1000)
+  Cursor<PlayerGameStat> selectPlayerGameStatsCursor();
+
   /**
    * Select all seasons
    * @return
@@ -244,6 +397,126 @@ public interface FootballRepository {
       "WHERE gr.season_id = #{seasonId} AND pgs.player_id = #{playerId}")
   List<PlayerGameStat> selectPlayerGameStatsByPlayerAndSeason(int playerId, int seasonId);
 
+  /**
+   * Select player game stats of club players by season
+   * クラブに所属する選手の、シーズン中の全ての試合の成績（移籍前のクラブでの試合も含む）
+   * @param clubId
+   * @param seasonId
+   * @return
+   */
+  @Select("SELECT pgs.* FROM player_game_stats pgs " +
+      "JOIN players p ON pgs.player_id = p.id " +
+      "JOIN game_results gr ON pgs.game_id = gr.id " +
+      "WHERE gr.season_id = #{seasonId} AND p.club_id = #{clubId} " +
+      "ORDER BY pgs.id")
+  List<PlayerGameStat> selectPlayerGameStatsByClubPlayersAndSeason(int clubId, int seasonId);
+
+  /**
+   * Select player season stats by club
+   * クラブに所属する全選手のシーズン成績を集計テーブルから取得する（出場のない選手は0件として含む）
+   * 列の順序は PlayerSeasonStat の @AutomapConstructor の引数順に合わせること
+   * @param clubId
+   * @param seasonId
+   * @return
+   */
+  @Select("SELECT p.id, se.id, p.club_id, " +
+      "COALESCE(t.games, 0), " +
+      "COALESCE(t.starter_games, 0), " +
+      "COALESCE(t.games - t.starter_games, 0), " +
+      "COALESCE(t.goals, 0), " +
+      "COALESCE(t.assists, 0), " +
+      "COALESCE(t.minutes, 0), " +
+      "COALESCE(t.yellow_cards, 0), " +
+      "COALESCE(t.red_cards, 0), " +
+      "p.name, c.name, se.name " +
+      "FROM players p " +
+      "JOIN clubs c ON c.id = p.club_id " +
+      "JOIN seasons se ON se.id = #{seasonId} " +
+      "LEFT JOIN player_season_totals t " +
+      "ON t.player_id = p.id AND t.club_id = p.club_id AND t.season_id = #{seasonId} " +
+      "WHERE p.club_id = #{clubId} " +
+      "ORDER BY p.number")
+  List<PlayerSeasonStat> selectPlayerSeasonStatsByClub(int clubId, int seasonId);
+
+  /**
+   * Select player season stats by player
+   * 選手の (シーズン, クラブ) ごとの成績を集計テーブルから取得する（seasonIdがnullの場合は全シーズン）
+   * 列の順序は PlayerSeasonStat の @AutomapConstructor の引数順に合わせること
+   * @param playerId
+   * @param seasonId
+   * @return
+   */
+  @Select("<script>" +
+      "SELECT t.player_id, t.season_id, t.club_id, " +
+      "t.games, " +
+      "t.starter_games, " +
+      "t.games - t.starter_games, " +
+      "t.goals, " +
+      "t.assists, " +
+      "t.minutes, " +
+      "t.yellow_cards, " +
+      "t.red_cards, " +
+      "p.name, c.name, se.name " +
+      "FROM player_season_totals t " +
+      "JOIN players p ON p.id = t.player_id " +
+      "JOIN clubs c ON c.id = t.club_id " +
+      "JOIN seasons se ON se.id = t.season_id " +
+      "WHERE t.player_id = #{playerId} " +
+      "<if test='seasonId != null'>AND t.season_id = #{seasonId} </if>" +
+      "ORDER BY t.season_id, t.first_stat_id" +
+      "</script>")
+  List<PlayerSeasonStat> selectPlayerSeasonStatsByPlayer(@Param("playerId") int playerId, @Param("seasonId") Integer seasonId);
+
+  /**
+   * Select player game stats by season
+   * シーズンの選手試合成績をリストに溜めずに1件ずつ handler に渡す（スナップショットの作成用）
+   * @param seasonId
+   * @param handler
+   */
+  @Select("SELECT pgs.* FROM player_game_stats pgs " +
+      "JOIN game_results gr ON pgs.game_id = gr.id " +
+      "WHERE gr.season_id = #{seasonId} AND pgs.player_id IS NOT NULL AND pgs.club_id IS NOT NULL " +
+      "ORDER BY pgs.game_id, pgs.id")
+  @Options(fetchSize = Integer.MIN_VALUE, databaseId = "mysql")
+  @Options(fetchSize = 1000)
+  void selectPlayerGameStatsBySeason(@Param("seasonId") int seasonId, ResultHandler<PlayerGameStat> handler);
+
+  /**
+   * Select leaders
+   * リーグに所属するクラブの選手シーズン成績の集計から、値が1以上の選手を順位付けして1ページ分取得する
+   * 順位は絞り込み後・ページ分割前の全件で付けるため、ページをまたいでも同値は同順位になる
+   * @param leagueId
+   * @param seasonId
+   * @param stat ランキングの対象とする成績（式は列挙型で定義したもののみ）
+   * @param limit
+   * @param offset
+   * @return
+   */
+  @Select("SELECT RANK() OVER (ORDER BY ${stat.expression} DESC), " +
+      "t.player_id, p.name, t.club_id, c.name, ${stat.expression}, t.games, t.minutes " +
+      "FROM player_season_totals t " +
+      "JOIN clubs c ON c.id = t.club_id " +
+      "JOIN players p ON p.id = t.player_id " +
+      "WHERE c.league_id = #{leagueId} AND t.season_id = #{seasonId} AND ${stat.expression} > 0 " +
+      "ORDER BY ${stat.expression} DESC, t.minutes, t.player_id, t.club_id " +
+      "LIMIT #{limit} OFFSET #{offset}")
+  List<Leaderboard.Leader> selectLeaders(@Param("leagueId") int leagueId, @Param("seasonId") int seasonId,
+      @Param("stat") LeaderStat stat, @Param("limit") int limit, @Param("offset") int offset);
+
+  /**
+   * Select player season totals
+   * 集計の作り直しの前後の比較に使用する（seasonIdがnullの場合は全シーズン）
+   * @param seasonId
+   * @return
+   */
+  @Select("<script>" +
+      "SELECT player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id " +
+      "FROM player_season_totals " +
+      "<if test='seasonId != null'>WHERE season_id = #{seasonId} </if>" +
+      "ORDER BY player_id, club_id, season_id" +
+      "</script>")
+  List<PlayerSeasonTotal> selectPlayerSeasonTotals(@Param("seasonId") Integer seasonId);
+
   /**
    * Select current season
    * @return
@@ -298,4 +571,17 @@ public interface FootballRepository {
    */
   @Update("UPDATE clubs SET league_id = #{leagueId} WHERE id = #{id}")
   void updateClubLeague(int id, int leagueId);
+
+//  delete
+
+  /**
+   * 選手の (クラブ, シーズン) ごとの集計を削除する（seasonIdがnullの場合は全シーズン）
+   * @param seasonId
+   * @return 削除した件数
+   */
+  @Delete("<script>" +
+      "DELETE FROM player_season_totals " +
+      "<if test='seasonId != null'>WHERE season_id = #{seasonId}</if>" +
+      "</script>")
+  int deletePlayerSeasonTotals(@Param("seasonId") Integer seasonId);
 }
@@ -0,0 +1,25 @@
+package football.StatsManagement.repository;
+
+import java.util.Properties;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatis の設定
+ * 接続先のDBごとに @Options を切り替えられるよう、MySQL に databaseId "mysql" を割り当てる（その他のDBは databaseId なし）
+ */
+@Configuration
+public class MyBatisConfig {
+
+  // DatabaseIdProvider のBeanは MyBatis の自動設定で使用される
+  @Bean
+  public DatabaseIdProvider databaseIdProvider() {
+    Properties properties = new Properties();
+    properties.setProperty("MySQL", "mysql");
+    VendorDatabaseIdProvider databaseIdProvider = new VendorDatabaseIdProvider();
+    databaseIdProvider.setProperties(properties);
+    return databaseIdProvider;
+  }
+}
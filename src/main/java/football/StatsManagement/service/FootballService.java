@@ -9,29 +9,108 @@ import football.StatsManagement.model.data.GameResult;
 import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.PlayerSeasonTotal;
 import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.ClubForStanding;
 import football.StatsManagement.model.domain.GameResultWithPlayerStats;
 import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.Leaderboard;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.domain.PlayerSeasonTotalsReport;
+import football.StatsManagement.model.domain.SeasonSnapshot;
+import football.StatsManagement.model.domain.SeasonSummary;
+import football.StatsManagement.model.domain.StatTotals;
+import football.StatsManagement.model.domain.StandingAggregate;
 import football.StatsManagement.repository.FootballRepository;
+import football.StatsManagement.utils.FanOut;
+import football.StatsManagement.utils.ReferenceCache;
+import football.StatsManagement.utils.VersionStamps;
+import io.micrometer.core.annotation.Timed;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+// public メソッドの実行時間をメソッドごとに football.service として記録する
+@Timed(value = "football.service", histogram = true)
 @Service
 public class FootballService {
   private final FootballRepository repository;
+  // リーグ・シーズンごとの順位表の集計（試合結果の登録時に差分を反映する）
+  private final Map<StandingKey, StandingAggregate> standingAggregates = new ConcurrentHashMap<>();
+  // 順位表の集計に影響する更新のたびに進める世代番号（作成中に更新があった集計を登録しないため）
+  private final AtomicLong standingGeneration = new AtomicLong();
+
+  private record StandingKey(int leagueId, int seasonId) {}
+
+  // 順位表・成績のバージョン（条件付きGETの ETag に使用し、コミット後に進める）
+  private final VersionStamps<Object> statVersions = new VersionStamps<>();
+  // 通算成績のバージョンに使用するシーズンID
+  private static final int CAREER_SEASON_ID = 0;
+
+  private record ClubSeasonKey(int clubId, int seasonId) {}
+
+  private record PlayerSeasonKey(int playerId, int seasonId) {}
+
+  private record SeasonSnapshotKey(int seasonId) {}
+
+  // シーズンごとの分析用スナップショット（作成時のバージョンが現在のバージョンと一致する間だけ使用する）
+  private final Map<Integer, CachedSeasonSnapshot> seasonSnapshots = new ConcurrentHashMap<>();
+
+  private record CachedSeasonSnapshot(VersionStamps.Stamp stamp, SeasonSnapshot snapshot) {}
+
+  // 参照用データのキャッシュ（登録・更新時に破棄する）
+  private static final Duration REFERENCE_CACHE_TTL = Duration.ofMinutes(10);
+  private static final String CURRENT_SEASON_KEY = "current";
+  // 複数行INSERTの1文あたりの件数（SQL長とプレースホルダ数の上限を超えないようにする）
+  private static final int PLAYER_GAME_STATS_INSERT_CHUNK_SIZE = 500;
+  private final ReferenceCache<Integer, Country> countryCache = new ReferenceCache<>(100, REFERENCE_CACHE_TTL);
+  private final ReferenceCache<Integer, League> leagueCache = new ReferenceCache<>(200, REFERENCE_CACHE_TTL);
+  private final ReferenceCache<Integer, Club> clubCache = new ReferenceCache<>(1000, REFERENCE_CACHE_TTL);
+  private final ReferenceCache<Integer, Player> playerCache = new ReferenceCache<>(10000, REFERENCE_CACHE_TTL);
+  private final ReferenceCache<Integer, Season> seasonCache = new ReferenceCache<>(100, REFERENCE_CACHE_TTL);
+  private final ReferenceCache<String, Season> currentSeasonCache = new ReferenceCache<>(1, REFERENCE_CACHE_TTL);
+
+  // 独立した読み込みを並行に実行する（同時実行数は接続プールの上限まで）
+  private static final int DEFAULT_FAN_OUT_CONCURRENCY = 10;
+  private final FanOut fanOut;
 
-  @Autowired
   public FootballService(FootballRepository repository) {
+    this(repository, DEFAULT_FAN_OUT_CONCURRENCY);
+  }
+
+  @Autowired
+  public FootballService(FootballRepository repository,
+      @Value("${spring.datasource.hikari.maximum-pool-size:" + DEFAULT_FAN_OUT_CONCURRENCY + "}") int fanOutConcurrency) {
     this.repository = repository;
+    this.fanOut = new FanOut(fanOutConcurrency);
+  }
+
+  /**
+   * 独立した読み込みを並行に実行するスコープを開く（try-with-resources で使用する）
+   * @return scope
+   */
+  public FanOut.Scope openFanOut() {
+    return fanOut.open();
   }
 
 //  register
@@ -60,6 +139,11 @@ public class FootballService {
   @Transactional
   public void registerClub(Club club) {
     repository.insertClub(club);
+    // 所属クラブが変わるため、リーグの順位表の集計を破棄
+    runAfterCommit(() -> {
+      evictStandingAggregates(club.getLeagueId());
+      statVersions.bumpAll();
+    });
   }
 
   /**
@@ -76,6 +160,8 @@ public class FootballService {
       }
     }
     repository.insertPlayer(player);
+    // クラブ所属選手のシーズン成績には出場のない選手も含まれ、全シーズン分が変わるため、全てのバージョンを進める
+    runAfterCommit(statVersions::bumpAll);
   }
 
   /**
@@ -85,6 +171,11 @@ public class FootballService {
   @Transactional
   public void registerPlayerGameStat(PlayerGameStat playerGameStats) {
     repository.insertPlayerGameStat(playerGameStats);
+    // 試合結果のシーズンで集計に加算する
+    repository.selectGameResult(playerGameStats.getGameId()).ifPresent(gameResult ->
+        addPlayerSeasonTotals(toPlayerSeasonTotals(gameResult.getSeasonId(), List.of(playerGameStats))));
+    // 影響する集計結果が多いため、全てのバージョンを進める
+    runAfterCommit(statVersions::bumpAll);
   }
 
   /**
@@ -94,6 +185,18 @@ public class FootballService {
   @Transactional
   public void registerGameResult(GameResult gameResult) {
     repository.insertGameResult(gameResult);
+    // コミット後に順位表の集計へ差分を反映（ロールバック時は集計に触れない）
+    StandingKey key = new StandingKey(gameResult.getLeagueId(), gameResult.getSeasonId());
+    runAfterCommit(() -> {
+      standingGeneration.incrementAndGet();
+      standingAggregates.computeIfPresent(key, (k, aggregate) -> {
+        aggregate.apply(gameResult);
+        return aggregate;
+      });
+      statVersions.bump(key);
+      statVersions.bump(new ClubSeasonKey(gameResult.getHomeClubId(), gameResult.getSeasonId()));
+      statVersions.bump(new ClubSeasonKey(gameResult.getAwayClubId(), gameResult.getSeasonId()));
+    });
   }
 
   /**
@@ -132,6 +235,10 @@ public class FootballService {
     // ここまで確認フェーズ、以降は登録処理
     updateSeasonsCurrentFalse();
     repository.insertSeason(season);
+    evictNowAndAfterCompletion(() -> {
+      seasonCache.clear();
+      currentSeasonCache.clear();
+    });
   }
 
   private void confirmSeasonNameNumber(String seasonName) throws FootballException {
@@ -154,7 +261,7 @@ public class FootballService {
    * @return a country
    */
   public Country getCountry(int id) throws ResourceNotFoundException {
-    return repository.selectCountry(id)
+    return cached(countryCache, id, repository::selectCountry)
         .orElseThrow(() -> new ResourceNotFoundException("Country not found"));
   }
 
@@ -164,7 +271,7 @@ public class FootballService {
    * @return a league
    */
   public League getLeague(int id) throws ResourceNotFoundException {
-    return repository.selectLeague(id)
+    return cached(leagueCache, id, repository::selectLeague)
         .orElseThrow(() -> new ResourceNotFoundException("League not found"));
   }
 
@@ -174,7 +281,7 @@ public class FootballService {
    * @return a club
    */
   public Club getClub(int id) throws ResourceNotFoundException {
-    return repository.selectClub(id)
+    return cached(clubCache, id, repository::selectClub)
         .orElseThrow(() -> new ResourceNotFoundException("Club not found"));
   }
 
@@ -184,7 +291,7 @@ public class FootballService {
    * @return a player
    */
   public Player getPlayer(int id) throws ResourceNotFoundException {
-    return repository.selectPlayer(id)
+    return cached(playerCache, id, repository::selectPlayer)
         .orElseThrow(() -> new ResourceNotFoundException("Player not found"));
   }
 
@@ -227,6 +334,95 @@ public class FootballService {
     return repository.selectGameResultsByClubAndSeason(seasonId, clubId);
   }
 
+  /**
+   * Get game results by league and season
+   * @param leagueId
+   * @param seasonId
+   * @return
+   */
+  public List<GameResult> getGameResultsByLeagueAndSeason(int leagueId, int seasonId) {
+    return repository.selectGameResultsByLeagueAndSeason(leagueId, seasonId);
+  }
+
+  /**
+   * Get clubForStandings by league and season
+   * 順位表の集計を保持しておき、参照時はクラブ数分の成績を作成するだけで済ませる
+   * @param leagueId
+   * @param seasonId
+   * @return clubForStandings（順位は未設定）
+   */
+  public List<ClubForStanding> getClubForStandings(int leagueId, int seasonId) {
+    // トランザクション内では未コミットのデータを含みうるため、集計を保持せずにその場で作成する
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return StandingAggregate.of(getClubsByLeague(leagueId), getGameResultsByLeagueAndSeason(leagueId, seasonId))
+          .toClubForStandings();
+    }
+    StandingKey key = new StandingKey(leagueId, seasonId);
+    StandingAggregate aggregate = standingAggregates.get(key);
+    if (aggregate != null) {
+      return aggregate.toClubForStandings();
+    }
+    // DBの読み込みは Map のロックの外で行う（仮想スレッドがロックを保持したままI/Oで待たないようにする）
+    long generation = standingGeneration.get();
+    StandingAggregate loaded = StandingAggregate.of(getClubsByLeague(leagueId), getGameResultsByLeagueAndSeason(leagueId, seasonId));
+    // 作成中に更新があった場合は登録しない（登録後の更新は computeIfPresent が反映する）
+    aggregate = standingAggregates.compute(key,
+        (k, existing) -> existing != null ? existing : standingGeneration.get() == generation ? loaded : null);
+    return (aggregate != null ? aggregate : loaded).toClubForStandings();
+  }
+
+  /**
+   * Get standing version
+   * 順位表の条件付きGETに使用する（順位表を作成する前に取得する）
+   * @param leagueId
+   * @param seasonId
+   * @return stamp
+   */
+  public VersionStamps.Stamp getStandingVersion(int leagueId, int seasonId) {
+    return statVersions.get(new StandingKey(leagueId, seasonId));
+  }
+
+  /**
+   * Get club season stats version
+   * @param clubId
+   * @param seasonId
+   * @return stamp
+   */
+  public VersionStamps.Stamp getClubSeasonStatsVersion(int clubId, int seasonId) {
+    return statVersions.get(new ClubSeasonKey(clubId, seasonId));
+  }
+
+  /**
+   * Get player season stats version
+   * @param playerId
+   * @param seasonId
+   * @return stamp
+   */
+  public VersionStamps.Stamp getPlayerSeasonStatsVersion(int playerId, int seasonId) {
+    return statVersions.get(new PlayerSeasonKey(playerId, seasonId));
+  }
+
+  /**
+   * Get player career stats version
+   * @param playerId
+   * @return stamp
+   */
+  public VersionStamps.Stamp getPlayerCareerStatsVersion(int playerId) {
+    return statVersions.get(new PlayerSeasonKey(playerId, CAREER_SEASON_ID));
+  }
+
+  /**
+   * Get players by IDs
+   * @param ids
+   * @return players（存在しないIDは含まれない）
+   */
+  public List<Player> getPlayersByIds(List<Integer> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return repository.selectPlayersByIds(ids.stream().distinct().collect(Collectors.toList()));
+  }
+
   /**
    * Get players by club
    * @param clubId
@@ -275,7 +471,7 @@ public class FootballService {
    * @return current season
    */
   public Season getCurrentSeason() throws ResourceNotFoundException {
-    return repository.selectCurrentSeason()
+    return cached(currentSeasonCache, CURRENT_SEASON_KEY, key -> repository.selectCurrentSeason())
         .orElseThrow(() -> new ResourceNotFoundException("Current season not found"));
   }
 
@@ -285,7 +481,7 @@ public class FootballService {
    * @return season
    */
   public Season getSeason(int id) throws ResourceNotFoundException {
-    return repository.selectSeason(id)
+    return cached(seasonCache, id, repository::selectSeason)
         .orElseThrow(() -> new ResourceNotFoundException("Season not found"));
   }
 
@@ -308,6 +504,10 @@ public class FootballService {
   @Transactional
   public void updateSeasonsCurrentFalse() {
     repository.updateSeasonsCurrentFalse();
+    evictNowAndAfterCompletion(() -> {
+      seasonCache.clear();
+      currentSeasonCache.clear();
+    });
   }
 
   /**
@@ -333,6 +533,9 @@ public class FootballService {
       throw new ResourceConflictException("Player number and name are not changed");
     }
     repository.updatePlayerNumberAndName(id, number, name);
+    evictNowAndAfterCompletion(() -> playerCache.evict(id));
+    // 選手名は所属したクラブの成績にも含まれるため、全てのバージョンを進める
+    runAfterCommit(statVersions::bumpAll);
   }
 
   @Transactional
@@ -351,6 +554,9 @@ public class FootballService {
       }
     }
     repository.updatePlayerClubAndNumber(id, clubId, number);
+    evictNowAndAfterCompletion(() -> playerCache.evict(id));
+    // 移籍前後のクラブ所属選手のシーズン成績が全シーズン分変わるため、全てのバージョンを進める
+    runAfterCommit(statVersions::bumpAll);
   }
 
   @Transactional
@@ -361,6 +567,62 @@ public class FootballService {
       throw new ResourceConflictException("Club league is not changed");
     }
     repository.updateClubLeague(id, leagueId);
+    evictNowAndAfterCompletion(() -> clubCache.evict(id));
+    // 移籍元・移籍先リーグの順位表の集計を破棄
+    runAfterCommit(() -> {
+      evictStandingAggregates(club.getLeagueId());
+      evictStandingAggregates(leagueId);
+      statVersions.bumpAll();
+    });
+  }
+
+  // リーグの全シーズンの順位表の集計を破棄
+  private void evictStandingAggregates(int leagueId) {
+    standingGeneration.incrementAndGet();
+    standingAggregates.keySet().removeIf(key -> key.leagueId() == leagueId);
+  }
+
+  // キャッシュから取得し、なければ読み込んでキャッシュに登録する
+  // トランザクション内で読み込んだデータは未コミットの可能性があるため登録しない
+  private <K, V> Optional<V> cached(ReferenceCache<K, V> cache, K key, Function<K, Optional<V>> loader) {
+    Optional<V> cachedValue = cache.get(key);
+    if (cachedValue.isPresent()) {
+      return cachedValue;
+    }
+    long generation = cache.generation();
+    Optional<V> loaded = loader.apply(key);
+    if (loaded.isPresent() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+      cache.put(key, loaded.get(), generation);
+    }
+    return loaded;
+  }
+
+  // キャッシュを即時に破棄し、トランザクション終了時（コミット・ロールバックとも）にも再度破棄する
+  // （更新中に他のスレッドが更新前のデータを登録した場合に備える）
+  private void evictNowAndAfterCompletion(Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+
+  // コミット後に処理を実行する（トランザクション外では即時実行）
+  private void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
   }
 
 
@@ -368,25 +630,68 @@ public class FootballService {
   public List<PlayerGameStat> getPlayerGameStatsByPlayerAndSeason(int playerId, int seasonId) throws ResourceNotFoundException {
     List<PlayerGameStat> playerGameStats = repository.selectPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
     // @GetMapping用にgameDate, opponentClubName, scoreを追加
+    enrichPlayerGameStats(playerGameStats);
+    return playerGameStats;
+  }
+
+  /**
+   * 選手試合成績に試合日・対戦相手・スコアを設定する
+   * 試合結果と対戦相手のクラブはそれぞれ1回のクエリでまとめて取得する
+   * @param playerGameStats
+   * @return 取得した試合結果（試合IDごと）
+   * @throws ResourceNotFoundException
+   */
+  private Map<Integer, GameResult> enrichPlayerGameStats(List<PlayerGameStat> playerGameStats) throws ResourceNotFoundException {
+    if (playerGameStats.isEmpty()) {
+      return Map.of();
+    }
+    List<Integer> gameIds = playerGameStats.stream()
+        .map(PlayerGameStat::getGameId)
+        .distinct()
+        .collect(Collectors.toList());
+    Map<Integer, GameResult> gameResults = repository.selectGameResultsByIds(gameIds).stream()
+        .collect(Collectors.toMap(GameResult::getId, gameResult -> gameResult));
+    // 対戦相手のクラブIDを集めてからクラブ名をまとめて取得
+    Set<Integer> opponentClubIds = new HashSet<>();
+    for (PlayerGameStat playerGameStat : playerGameStats) {
+      GameResult gameResult = gameResults.get(playerGameStat.getGameId());
+      if (gameResult == null) {
+        throw new ResourceNotFoundException("Game result not found");
+      }
+      opponentClubIds.add(getOpponentClubId(gameResult, playerGameStat.getClubId()));
+    }
+    Map<Integer, String> clubNames = repository.selectClubsByIds(new ArrayList<>(opponentClubIds)).stream()
+        .collect(Collectors.toMap(Club::getId, Club::getName));
     for (PlayerGameStat playerGameStat : playerGameStats) {
-      GameResult gameResult = getGameResult(playerGameStat.getGameId());
+      GameResult gameResult = gameResults.get(playerGameStat.getGameId());
       // gameDate
       playerGameStat.setGameDate(gameResult.getGameDate());
       // opponentClubName
-      int opponentClubId = gameResult.getHomeClubId() == playerGameStat.getClubId() ? gameResult.getAwayClubId() : gameResult.getHomeClubId();
-      playerGameStat.setOpponentClubName(getClub(opponentClubId).getName());
-      // score
-      String score = gameResult.getHomeScore() + "-" + gameResult.getAwayScore();
-      if (gameResult.getWinnerClubId() == null) {
-        score = "△" + score;
-      } else if (gameResult.getWinnerClubId() == playerGameStat.getClubId()) {
-        score = "○" + score;
-      } else {
-        score = "●" + score;
+      String opponentClubName = clubNames.get(getOpponentClubId(gameResult, playerGameStat.getClubId()));
+      if (opponentClubName == null) {
+        throw new ResourceNotFoundException("Club not found");
       }
-      playerGameStat.setScore(score);
+      playerGameStat.setOpponentClubName(opponentClubName);
+      // score
+      playerGameStat.setScore(getScore(gameResult, playerGameStat.getClubId()));
+    }
+    return gameResults;
+  }
+
+  private int getOpponentClubId(GameResult gameResult, int clubId) {
+    return gameResult.getHomeClubId() == clubId ? gameResult.getAwayClubId() : gameResult.getHomeClubId();
+  }
+
+  // クラブから見たスコア（勝ち：○、引き分け：△、負け：●）
+  private String getScore(GameResult gameResult, int clubId) {
+    String score = gameResult.getHomeScore() + "-" + gameResult.getAwayScore();
+    if (gameResult.getWinnerClubId() == null) {
+      return "△" + score;
+    } else if (gameResult.getWinnerClubId() == clubId) {
+      return "○" + score;
+    } else {
+      return "●" + score;
     }
-    return playerGameStats;
   }
 
   /**
@@ -396,14 +701,89 @@ public class FootballService {
    * @return player season stats
    */
   public List<PlayerSeasonStat> getPlayerSeasonStatsByClubId(int clubId, int seasonId) throws ResourceNotFoundException {
-    List<Player> players = getPlayersByClub(clubId);
-    List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>();
-    for (Player player : players) {
-      List<PlayerGameStat> playerGameStats = getPlayerGameStatsByPlayerAndSeason(player.getId(), seasonId);
-      PlayerSeasonStat playerSeasonStat = PlayerSeasonStat.initialPlayerSeasonStat(player.getId(), playerGameStats, seasonId, clubId, this);
-      playerSeasonStats.add(playerSeasonStat);
+    return getPlayerSeasonStatsByClubId(clubId, seasonId, true);
+  }
+
+  /**
+   * Get player season stats
+   * 選手ごとの集計は1回の集計クエリで取得し、試合ごとの成績は必要な場合のみクラブ全体でまとめて取得する
+   * 集計はこのクラブでの試合のみ、試合ごとの成績は移籍前のクラブでの試合も含むシーズン中の全ての試合
+   * @param clubId
+   * @param seasonId
+   * @param includeGames 試合ごとの成績を含めるかどうか
+   * @return player season stats
+   */
+  public List<PlayerSeasonStat> getPlayerSeasonStatsByClubId(int clubId, int seasonId, boolean includeGames) throws ResourceNotFoundException {
+    // 存在しないクラブ・シーズンは空のリストではなく404にする
+    getClub(clubId);
+    getSeason(seasonId);
+    if (!includeGames) {
+      return repository.selectPlayerSeasonStatsByClub(clubId, seasonId);
+    }
+    return loadWithPlayerGameStats(() -> repository.selectPlayerSeasonStatsByClub(clubId, seasonId),
+        () -> repository.selectPlayerGameStatsByClubPlayersAndSeason(clubId, seasonId));
+  }
+
+  /**
+   * Get season snapshot
+   * シーズンの選手試合成績を列ごとの配列に読み込んだスナップショットを取得する（シーズンごとに1度だけ作成し、成績の登録後は作り直す）
+   * @param seasonId
+   * @return season snapshot
+   */
+  public SeasonSnapshot getSeasonSnapshot(int seasonId) throws ResourceNotFoundException {
+    getSeason(seasonId);
+    // 作成中に登録された成績を含まないスナップショットが使われ続けないよう、読み込む前のバージョンで登録する
+    VersionStamps.Stamp stamp = statVersions.get(new SeasonSnapshotKey(seasonId));
+    CachedSeasonSnapshot cached = seasonSnapshots.get(seasonId);
+    if (cached != null && cached.stamp().equals(stamp)) {
+      return cached.snapshot();
     }
-    return playerSeasonStats;
+    SeasonSnapshot snapshot = loadSeasonSnapshot(seasonId);
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      seasonSnapshots.put(seasonId, new CachedSeasonSnapshot(stamp, snapshot));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Get season summary
+   * @param seasonId
+   * @return season summary
+   */
+  public SeasonSummary getSeasonSummary(int seasonId) throws ResourceNotFoundException {
+    return SeasonSummary.of(getSeasonSnapshot(seasonId));
+  }
+
+  // 選手試合成績を1件ずつ列に追加し、出場した選手とクラブの名前で辞書を作成する
+  private SeasonSnapshot loadSeasonSnapshot(int seasonId) {
+    SeasonSnapshot.Builder builder = SeasonSnapshot.builder(seasonId);
+    repository.selectPlayerGameStatsBySeason(seasonId, context -> builder.add(context.getResultObject()));
+    int[] playerIds = builder.distinctPlayerIds();
+    // 試合のないシーズンは空の IN 句にならないよう選手を取得しない
+    List<Player> players = playerIds.length == 0 ? List.of()
+        : repository.selectPlayersByIds(Arrays.stream(playerIds).boxed().toList());
+    return builder.build(players, repository.selectClubs());
+  }
+
+  /**
+   * Get leaderboard
+   * リーグの全クラブの選手シーズン成績を取得して並べ替えるのではなく、集計テーブルから1回のクエリで1ページ分だけ取得する
+   * @param leagueId
+   * @param seasonId
+   * @param stat ランキングの対象とする成績
+   * @param limit 1ページの件数
+   * @param offset ページの先頭の位置（0始まり）
+   * @return leaderboard
+   */
+  public Leaderboard getLeaderboard(int leagueId, int seasonId, LeaderStat stat, int limit, int offset) throws ResourceNotFoundException {
+    getLeague(leagueId);
+    getSeason(seasonId);
+    // 次のページの有無を判定するため1件多く取得する
+    List<Leaderboard.Leader> leaders = repository.selectLeaders(leagueId, seasonId, stat, limit + 1, offset);
+    if (leaders.size() > limit) {
+      return new Leaderboard(leagueId, seasonId, stat, offset, offset + limit, leaders.subList(0, limit));
+    }
+    return new Leaderboard(leagueId, seasonId, stat, offset, null, leaders);
   }
 
   /**
@@ -413,19 +793,23 @@ public class FootballService {
    * @return player season stat
    */
   public List<PlayerSeasonStat> getPlayerSeasonStatByPlayerId(int playerId, int seasonId) throws ResourceNotFoundException {
-    List<PlayerGameStat> playerGameStats = getPlayerGameStatsByPlayerAndSeason(playerId, seasonId);
-    // 存在するclubIdを取得（基本は1つだが、シーズン中の移籍があれば複数存在する）
-    List<Integer> clubIds = playerGameStats.stream()
-        .map(PlayerGameStat::getClubId)
-        .distinct()
-        .collect(Collectors.toList());
-    // playerSeasonStatを作成し、各クラブでの成績をリストに追加
-    List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>();
-    for (int clubId : clubIds) {
-      PlayerSeasonStat playerSeasonStat = PlayerSeasonStat.initialPlayerSeasonStat(playerId, playerGameStats, seasonId, clubId, this);
-      playerSeasonStats.add(playerSeasonStat);
+    return getPlayerSeasonStatByPlayerId(playerId, seasonId, true);
+  }
+
+  /**
+   * Get player season stat by player ID
+   * クラブごとの集計は1回の集計クエリで取得する（シーズン中の移籍があれば複数になる）
+   * @param playerId
+   * @param seasonId
+   * @param includeGames 試合ごとの成績を含めるかどうか
+   * @return player season stat
+   */
+  public List<PlayerSeasonStat> getPlayerSeasonStatByPlayerId(int playerId, int seasonId, boolean includeGames) throws ResourceNotFoundException {
+    if (!includeGames) {
+      return repository.selectPlayerSeasonStatsByPlayer(playerId, seasonId);
     }
-    return playerSeasonStats;
+    return loadWithPlayerGameStats(() -> repository.selectPlayerSeasonStatsByPlayer(playerId, seasonId),
+        () -> repository.selectPlayerGameStatsByPlayerAndSeason(playerId, seasonId));
   }
 
   /**
@@ -434,15 +818,58 @@ public class FootballService {
    * @return player season stats
    */
   public List<PlayerSeasonStat> getPlayerSeasonStatsByPlayerId(int playerId) throws ResourceNotFoundException {
-    List<PlayerSeasonStat> playerSeasonStats = new ArrayList<>();
-    List<Season> seasons = getSeasons();
-    for (Season season : seasons) {
-      List<PlayerSeasonStat> playerSeasonStatsInSeason = getPlayerSeasonStatByPlayerId(playerId, season.getId());
-      playerSeasonStats.addAll(playerSeasonStatsInSeason);
+    return getPlayerSeasonStatsByPlayerId(playerId, true);
+  }
+
+  /**
+   * Get player season stats by player ID
+   * 通算成績は (シーズン, クラブ) ごとに1回の集計クエリで取得する（出場のないシーズンは含まない）
+   * @param playerId
+   * @param includeGames 試合ごとの成績を含めるかどうか
+   * @return player season stats
+   */
+  public List<PlayerSeasonStat> getPlayerSeasonStatsByPlayerId(int playerId, boolean includeGames) throws ResourceNotFoundException {
+    if (!includeGames) {
+      return repository.selectPlayerSeasonStatsByPlayer(playerId, null);
+    }
+    return loadWithPlayerGameStats(() -> repository.selectPlayerSeasonStatsByPlayer(playerId, null),
+        () -> repository.selectPlayerGameStatsByPlayer(playerId));
+  }
+
+  // 集計と試合ごとの成績は互いに独立しているため並行に取得し、試合ごとの成績を振り分ける
+  private List<PlayerSeasonStat> loadWithPlayerGameStats(FanOut.Task<List<PlayerSeasonStat>> playerSeasonStatsLoader,
+      FanOut.Task<List<PlayerGameStat>> playerGameStatsLoader) throws ResourceNotFoundException {
+    List<PlayerSeasonStat> playerSeasonStats;
+    List<PlayerGameStat> playerGameStats;
+    try (FanOut.Scope scope = fanOut.open()) {
+      Supplier<List<PlayerSeasonStat>> forkedPlayerSeasonStats = scope.fork(playerSeasonStatsLoader);
+      Supplier<List<PlayerGameStat>> forkedPlayerGameStats = scope.fork(playerGameStatsLoader);
+      scope.join();
+      playerSeasonStats = forkedPlayerSeasonStats.get();
+      playerGameStats = forkedPlayerGameStats.get();
     }
-    return playerSeasonStats;
+    if (playerSeasonStats.isEmpty()) {
+      return playerSeasonStats;
+    }
+    return withPlayerGameStats(playerSeasonStats, playerGameStats);
+  }
+
+  // 試合ごとの成績を (選手, シーズン) ごとに振り分けてシーズン成績に設定する
+  // 集計はクラブごとだが、試合ごとの成績は移籍前後のクラブでの試合も含めてシーズン中の全ての試合を設定する
+  private List<PlayerSeasonStat> withPlayerGameStats(List<PlayerSeasonStat> playerSeasonStats, List<PlayerGameStat> playerGameStats)
+      throws ResourceNotFoundException {
+    Map<Integer, GameResult> gameResults = enrichPlayerGameStats(playerGameStats);
+    Map<SeasonStatKey, List<PlayerGameStat>> playerGameStatsByKey = playerGameStats.stream()
+        .collect(Collectors.groupingBy(playerGameStat -> new SeasonStatKey(playerGameStat.getPlayerId(),
+            gameResults.get(playerGameStat.getGameId()).getSeasonId())));
+    return playerSeasonStats.stream()
+        .map(playerSeasonStat -> playerSeasonStat.withPlayerGameStats(playerGameStatsByKey.getOrDefault(
+            new SeasonStatKey(playerSeasonStat.playerId(), playerSeasonStat.seasonId()), List.of())))
+        .collect(Collectors.toList());
   }
 
+  private record SeasonStatKey(int playerId, int seasonId) {}
+
   /**
    * Get player game stats except absent players
    * @param playerGameStats
@@ -460,15 +887,12 @@ public class FootballService {
 
   /**
    * Calculate score from player game stats
+   * 試合結果の確認と同じく StatTotals で合計する
    * @param playerGameStats
    * @return score
    */
   public int getScoreByPlayerGameStats(List<PlayerGameStat> playerGameStats) {
-    int score = 0;
-    for (PlayerGameStat playerGameStat : playerGameStats) {
-      score += playerGameStat.getGoals();
-    }
-    return score;
+    return StatTotals.of(playerGameStats).getGoals();
   }
 
   /**
@@ -501,31 +925,40 @@ public class FootballService {
     homeClubStats = getPlayerGameStatsExceptAbsent(homeClubStats);
     awayClubStats = getPlayerGameStatsExceptAbsent(awayClubStats);
 
-    // clubIdとnumberをplayer情報から設定
+    // clubIdとnumberをplayer情報から設定（出場選手はホーム・アウェイまとめて1回のクエリで取得）
+    List<Integer> playerIds = new ArrayList<>();
+    homeClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    awayClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    Map<Integer, Player> players = getPlayersByIds(playerIds).stream()
+        .collect(Collectors.toMap(Player::getId, player -> player));
     for (PlayerGameStat playerGameStat : homeClubStats) {
-      Player player = getPlayer(playerGameStat.getPlayerId());
+      Player player = getParticipatingPlayer(players, playerGameStat.getPlayerId());
       playerGameStat.setPlayerInfo(player.getClubId(), player.getNumber());
     }
     for (PlayerGameStat playerGameStat : awayClubStats) {
-      Player player = getPlayer(playerGameStat.getPlayerId());
+      Player player = getParticipatingPlayer(players, playerGameStat.getPlayerId());
       playerGameStat.setPlayerInfo(player.getClubId(), player.getNumber());
     }
 
+    // gameDateが今シーズンの範囲内か確認
+    if (!isInSeason(gameResult.getGameDate(), getCurrentSeason())) {
+      throw new FootballException("Game date is not in the current season");
+    }
     // スタッツの整合性を確認
-    confirmGameResultAndPlayerGameStats(gameResult, homeClubStats, awayClubStats);
+    confirmGameResultAndPlayerGameStats(gameResult, homeClubStats, awayClubStats, true);
 
 //    試合結果を登録
     registerGameResult(gameResult);
 
-//    個人成績を登録（登録前にgameIdを設定）
-    for (PlayerGameStat playerGameStat : homeClubStats) {
-      playerGameStat.setGameId(gameResult.getId());
-      registerPlayerGameStat(playerGameStat);
-    }
-    for (PlayerGameStat playerGameStat : awayClubStats) {
+//    個人成績を登録（登録前にgameIdを設定、ホーム・アウェイまとめて1回のINSERTで登録）
+    List<PlayerGameStat> playerGameStats = new ArrayList<>(homeClubStats);
+    playerGameStats.addAll(awayClubStats);
+    for (PlayerGameStat playerGameStat : playerGameStats) {
       playerGameStat.setGameId(gameResult.getId());
-      registerPlayerGameStat(playerGameStat);
     }
+    insertPlayerGameStats(playerGameStats);
+    addPlayerSeasonTotals(toPlayerSeasonTotals(gameResult.getSeasonId(), playerGameStats));
+    bumpPlayerStatVersions(gameResult.getSeasonId(), playerGameStats);
 
     // 更新された情報を gameResultWithPlayerStats に設定
     gameResultWithPlayerStats.setGameResult(gameResult);
@@ -533,93 +966,258 @@ public class FootballService {
     gameResultWithPlayerStats.setAwayPlayerGameStats(awayClubStats);
   }
 
+  /**
+   * Prepare past game result and player game stats for import
+   * 過去の試合は試合結果のシーズンの範囲内か確認する（今シーズンに限らない）
+   * 選手・クラブの所属は当時と異なる場合があるため、clubIdはホーム・アウェイのクラブから設定し、クラブの所属リーグは確認しない
+   * 登録は行わないため、トランザクションの外で呼び出せる
+   * @param gameResultWithPlayerStats
+   */
+  public void prepareImportedGameResultAndPlayerGameStats(GameResultWithPlayerStats gameResultWithPlayerStats)
+      throws FootballException, ResourceNotFoundException {
+    GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+    List<PlayerGameStat> homeClubStats = getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getHomePlayerGameStats());
+    List<PlayerGameStat> awayClubStats = getPlayerGameStatsExceptAbsent(gameResultWithPlayerStats.getAwayPlayerGameStats());
+
+    // numberはplayer情報から設定（出場選手はホーム・アウェイまとめて1回のクエリで取得）
+    List<Integer> playerIds = new ArrayList<>();
+    homeClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    awayClubStats.forEach(playerGameStat -> playerIds.add(playerGameStat.getPlayerId()));
+    Map<Integer, Player> players = getPlayersByIds(playerIds).stream()
+        .collect(Collectors.toMap(Player::getId, player -> player));
+    for (PlayerGameStat playerGameStat : homeClubStats) {
+      Player player = getParticipatingPlayer(players, playerGameStat.getPlayerId());
+      playerGameStat.setPlayerInfo(gameResult.getHomeClubId(), player.getNumber());
+    }
+    for (PlayerGameStat playerGameStat : awayClubStats) {
+      Player player = getParticipatingPlayer(players, playerGameStat.getPlayerId());
+      playerGameStat.setPlayerInfo(gameResult.getAwayClubId(), player.getNumber());
+    }
+
+    // gameDateが試合結果のシーズンの範囲内か確認
+    if (!isInSeason(gameResult.getGameDate(), getSeason(gameResult.getSeasonId()))) {
+      throw new FootballException("Game date is not in the season");
+    }
+    // スタッツの整合性を確認
+    confirmGameResultAndPlayerGameStats(gameResult, homeClubStats, awayClubStats, false);
+
+    gameResultWithPlayerStats.setHomePlayerGameStats(homeClubStats);
+    gameResultWithPlayerStats.setAwayPlayerGameStats(awayClubStats);
+  }
+
+  /**
+   * Register prepared game results and player game stats
+   * 試合結果は1件ずつ登録してIDを採番し、個人成績は全試合分をまとめてINSERTする
+   * @param gameResultsWithPlayerStats prepareImportedGameResultAndPlayerGameStats で確認済みの試合
+   */
+  @Transactional
+  public void registerPreparedGameResultsAndPlayerGameStats(List<GameResultWithPlayerStats> gameResultsWithPlayerStats) {
+    List<PlayerGameStat> playerGameStats = new ArrayList<>();
+    for (GameResultWithPlayerStats gameResultWithPlayerStats : gameResultsWithPlayerStats) {
+      GameResult gameResult = gameResultWithPlayerStats.getGameResult();
+      registerGameResult(gameResult);
+      for (PlayerGameStat playerGameStat : gameResultWithPlayerStats.getHomePlayerGameStats()) {
+        playerGameStat.setGameId(gameResult.getId());
+        playerGameStats.add(playerGameStat);
+      }
+      for (PlayerGameStat playerGameStat : gameResultWithPlayerStats.getAwayPlayerGameStats()) {
+        playerGameStat.setGameId(gameResult.getId());
+        playerGameStats.add(playerGameStat);
+      }
+      bumpPlayerStatVersions(gameResult.getSeasonId(), gameResultWithPlayerStats.getHomePlayerGameStats());
+      bumpPlayerStatVersions(gameResult.getSeasonId(), gameResultWithPlayerStats.getAwayPlayerGameStats());
+    }
+    insertPlayerGameStats(playerGameStats);
+    // 採番されたIDが必要なため、試合成績の登録後に全試合分をまとめて集計に加算する
+    Map<PlayerSeasonTotal.Key, PlayerSeasonTotal> playerSeasonTotals = new LinkedHashMap<>();
+    for (GameResultWithPlayerStats gameResultWithPlayerStats : gameResultsWithPlayerStats) {
+      int seasonId = gameResultWithPlayerStats.getGameResult().getSeasonId();
+      toPlayerSeasonTotals(seasonId, gameResultWithPlayerStats.getHomePlayerGameStats())
+          .forEach(total -> playerSeasonTotals.merge(total.key(), total, PlayerSeasonTotal::plus));
+      toPlayerSeasonTotals(seasonId, gameResultWithPlayerStats.getAwayPlayerGameStats())
+          .forEach(total -> playerSeasonTotals.merge(total.key(), total, PlayerSeasonTotal::plus));
+    }
+    addPlayerSeasonTotals(new ArrayList<>(playerSeasonTotals.values()));
+  }
+
+  /**
+   * Rebuild player season totals
+   * 試合成績から選手の (クラブ, シーズン) ごとの集計を作り直し、作り直す前の集計との差異の件数を返す（整合性の確認用）
+   * @param seasonId nullの場合は全シーズン
+   * @return 作り直した件数と差異の件数
+   */
+  @Transactional
+  public PlayerSeasonTotalsReport rebuildPlayerSeasonTotals(Integer seasonId) {
+    Map<PlayerSeasonTotal.Key, PlayerSeasonTotal> before = repository.selectPlayerSeasonTotals(seasonId).stream()
+        .collect(Collectors.toMap(PlayerSeasonTotal::key, total -> total));
+    repository.deletePlayerSeasonTotals(seasonId);
+    repository.insertPlayerSeasonTotalsFromPlayerGameStats(seasonId);
+    List<PlayerSeasonTotal> after = repository.selectPlayerSeasonTotals(seasonId);
+
+    int mismatched = 0;
+    for (PlayerSeasonTotal total : after) {
+      if (!total.equals(before.remove(total.key()))) {
+        mismatched++;
+      }
+    }
+    // 作り直した集計にない (選手, クラブ, シーズン) の集計も差異として数える
+    mismatched += before.size();
+    if (mismatched > 0) {
+      runAfterCommit(statVersions::bumpAll);
+    }
+    return new PlayerSeasonTotalsReport(after.size(), mismatched);
+  }
+
+  // 試合成績を (選手, クラブ, シーズン) ごとに合算する（同じ選手が複数件含まれる場合に備える）
+  private static List<PlayerSeasonTotal> toPlayerSeasonTotals(int seasonId, List<PlayerGameStat> playerGameStats) {
+    Map<PlayerSeasonTotal.Key, PlayerSeasonTotal> totals = new LinkedHashMap<>();
+    for (PlayerGameStat playerGameStat : playerGameStats) {
+      PlayerSeasonTotal total = PlayerSeasonTotal.of(seasonId, playerGameStat);
+      totals.merge(total.key(), total, PlayerSeasonTotal::plus);
+    }
+    return new ArrayList<>(totals.values());
+  }
+
+  // 試合成績を複数行のINSERTで登録する（件数が多い場合は PLAYER_GAME_STATS_INSERT_CHUNK_SIZE 件ずつ）
+  // 集計テーブルへの加算とバージョンの更新は呼び出し側で行う
+  private void insertPlayerGameStats(List<PlayerGameStat> playerGameStats) {
+    for (int from = 0; from < playerGameStats.size(); from += PLAYER_GAME_STATS_INSERT_CHUNK_SIZE) {
+      int to = Math.min(from + PLAYER_GAME_STATS_INSERT_CHUNK_SIZE, playerGameStats.size());
+      repository.insertPlayerGameStats(playerGameStats.subList(from, to));
+    }
+  }
+
+  // 集計テーブルに加算する（試合成績の登録と同じトランザクションで呼び出す）
+  private void addPlayerSeasonTotals(List<PlayerSeasonTotal> playerSeasonTotals) {
+    for (int from = 0; from < playerSeasonTotals.size(); from += PLAYER_GAME_STATS_INSERT_CHUNK_SIZE) {
+      int to = Math.min(from + PLAYER_GAME_STATS_INSERT_CHUNK_SIZE, playerSeasonTotals.size());
+      repository.upsertPlayerSeasonTotals(playerSeasonTotals.subList(from, to));
+    }
+  }
+
+  // コミット後に選手のシーズン成績・通算成績とシーズンのスナップショットのバージョンを進める
+  private void bumpPlayerStatVersions(int seasonId, List<PlayerGameStat> playerGameStats) {
+    List<Integer> playerIds = playerGameStats.stream().map(PlayerGameStat::getPlayerId).toList();
+    runAfterCommit(() -> {
+      statVersions.bump(new SeasonSnapshotKey(seasonId));
+      for (int playerId : playerIds) {
+        statVersions.bump(new PlayerSeasonKey(playerId, seasonId));
+        statVersions.bump(new PlayerSeasonKey(playerId, CAREER_SEASON_ID));
+      }
+    });
+  }
+
+  private boolean isInSeason(LocalDate gameDate, Season season) {
+    return !gameDate.isBefore(season.getStartDate()) && !gameDate.isAfter(season.getEndDate());
+  }
+
+  private Player getParticipatingPlayer(Map<Integer, Player> players, int playerId) throws ResourceNotFoundException {
+    Player player = players.get(playerId);
+    if (player == null) {
+      throw new ResourceNotFoundException("Player not found");
+    }
+    return player;
+  }
+
   /**
    * Confirm game result and player game stats
    * @param gameResult
    * @param homeClubStats
    * @param awayClubStats
+   * @param checkClubLeague クラブが現在リーグに所属しているかを確認するか
    * @throws FootballException
    */
-  private void confirmGameResultAndPlayerGameStats(GameResult gameResult, List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats) throws FootballException, ResourceNotFoundException {
-    // gameDateが今シーズンの範囲内か確認
-    Season season = getCurrentSeason();
-    if (gameResult.getGameDate().isBefore(season.getStartDate()) || gameResult.getGameDate().isAfter(season.getEndDate())) {
-      throw new FootballException("Game date is not in the current season");
-    }
+  private void confirmGameResultAndPlayerGameStats(GameResult gameResult, List<PlayerGameStat> homeClubStats, List<PlayerGameStat> awayClubStats,
+      boolean checkClubLeague) throws FootballException, ResourceNotFoundException {
     // リーグが存在するか確認（明示的に例外をスローするため、あえて内部メソッドではなくrepositoryを使用）
     repository.selectLeague(gameResult.getLeagueId())
         .orElseThrow(() -> new FootballException("League not found"));
     // リーグとクラブが紐づいているかを確認
     Club homeClub = getClub(gameResult.getHomeClubId());
     Club awayClub = getClub(gameResult.getAwayClubId());
-    if (homeClub.getLeagueId() != gameResult.getLeagueId()) {
+    if (checkClubLeague && homeClub.getLeagueId() != gameResult.getLeagueId()) {
       throw new FootballException("Home club is not in the league");
     }
-    if (awayClub.getLeagueId() != gameResult.getLeagueId()) {
+    if (checkClubLeague && awayClub.getLeagueId() != gameResult.getLeagueId()) {
       throw new FootballException("Away club is not in the league");
     }
+    // ホーム・アウェイそれぞれ1回の走査で所属クラブの確認と成績の合計を行い、確認は従来と同じ順序で行う
+    StatTotals homeTotals = new StatTotals();
+    boolean homeClubMatched = sumClubStats(homeClubStats, homeClub.getId(), homeTotals);
+    StatTotals awayTotals = new StatTotals();
+    boolean awayClubMatched = sumClubStats(awayClubStats, awayClub.getId(), awayTotals);
     // クラブと出場選手が紐づいているかを確認
-    for (PlayerGameStat playerGameStat : homeClubStats) {
-      if (playerGameStat.getClubId() != homeClub.getId()) {
-        throw new FootballException("Home club and player are not matched");
-      }
+    if (!homeClubMatched) {
+      throw new FootballException("Home club and player are not matched");
     }
-    for (PlayerGameStat playerGameStat : awayClubStats) {
-      if (playerGameStat.getClubId() != awayClub.getId()) {
-        throw new FootballException("Away club and player are not matched");
-      }
+    if (!awayClubMatched) {
+      throw new FootballException("Away club and player are not matched");
     }
     // ホームとアウェイそれぞれで重複する選手がいないか確認
-    List<Integer> homePlayerIds = homeClubStats.stream().map(PlayerGameStat::getPlayerId).collect(Collectors.toList());
-    Set<Integer> homePlayerIdsSet = new HashSet<>(homePlayerIds);
-    if (homePlayerIds.size() != homePlayerIdsSet.size()) {
+    if (hasDuplicatePlayers(homeClubStats)) {
       throw new FootballException("Home club has duplicate players");
     }
-    List<Integer> awayPlayerIds = awayClubStats.stream().map(PlayerGameStat::getPlayerId).collect(Collectors.toList());
-    Set<Integer> awayPlayerIdsSet = new HashSet<>(awayPlayerIds);
-    if (awayPlayerIds.size() != awayPlayerIdsSet.size()) {
+    if (hasDuplicatePlayers(awayClubStats)) {
       throw new FootballException("Away club has duplicate players");
     }
     // スコアが正しいか確認
     int homeScore = gameResult.getHomeScore();
     int awayScore = gameResult.getAwayScore();
-    int homeScoreCalculated = getScoreByPlayerGameStats(homeClubStats);
-    int awayScoreCalculated = getScoreByPlayerGameStats(awayClubStats);
-    int homeAssists = homeClubStats.stream().mapToInt(PlayerGameStat::getAssists).sum();
-    int awayAssists = awayClubStats.stream().mapToInt(PlayerGameStat::getAssists).sum();
-    if (homeScore != homeScoreCalculated) {
+    if (homeScore != homeTotals.getGoals()) {
       throw new FootballException("Home score is not correct");
     }
-    if (awayScore != awayScoreCalculated) {
+    if (awayScore != awayTotals.getGoals()) {
       throw new FootballException("Away score is not correct");
     }
     // アシストがゴールより多くないか確認
-    if (homeAssists > homeScore) {
+    if (homeTotals.getAssists() > homeScore) {
       throw new FootballException("Home assists is more than home score");
     }
-    if (awayAssists > awayScore) {
+    if (awayTotals.getAssists() > awayScore) {
       throw new FootballException("Away assists is more than away score");
     }
     // starterの人数確認
-    int homeStarterCount = (int) homeClubStats.stream().filter(PlayerGameStat::isStarter).count();
-    int awayStarterCount = (int) awayClubStats.stream().filter(PlayerGameStat::isStarter).count();
-    if (homeStarterCount != 11) {
+    if (homeTotals.getStarterGames() != 11) {
       throw new FootballException("Home starter count is not correct");
     }
-    if (awayStarterCount != 11) {
+    if (awayTotals.getStarterGames() != 11) {
       throw new FootballException("Away starter count is not correct");
     }
     // 出場時間が合計990分以上になっているか確認
-    int homeMinutes = homeClubStats.stream().mapToInt(PlayerGameStat::getMinutes).sum();
-    int awayMinutes = awayClubStats.stream().mapToInt(PlayerGameStat::getMinutes).sum();
-    if (homeMinutes < 990) {
+    if (homeTotals.getMinutes() < 990) {
       throw new FootballException("Home minutes is not correct");
     }
-    if (awayMinutes < 990) {
+    if (awayTotals.getMinutes() < 990) {
       throw new FootballException("Away minutes is not correct");
     }
   }
 
+  // 成績を totals に合計し、全ての選手の所属クラブが clubId に一致すれば true
+  private static boolean sumClubStats(List<PlayerGameStat> playerGameStats, int clubId, StatTotals totals) {
+    boolean matched = true;
+    for (int i = 0; i < playerGameStats.size(); i++) {
+      PlayerGameStat playerGameStat = playerGameStats.get(i);
+      matched &= playerGameStat.getClubId() == clubId;
+      totals.add(playerGameStat);
+    }
+    return matched;
+  }
+
+  // 選手IDを int 配列に並べ替えて隣り合う値を比較する（Integer の HashSet を作成しない）
+  private static boolean hasDuplicatePlayers(List<PlayerGameStat> playerGameStats) {
+    int[] playerIds = new int[playerGameStats.size()];
+    for (int i = 0; i < playerIds.length; i++) {
+      playerIds[i] = playerGameStats.get(i).getPlayerId();
+    }
+    Arrays.sort(playerIds);
+    for (int i = 1; i < playerIds.length; i++) {
+      if (playerIds[i] == playerIds[i - 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public LocalDate convertStringToLocalDate(String dateString) {
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
     LocalDate gameDate = LocalDate.parse(dateString, formatter);
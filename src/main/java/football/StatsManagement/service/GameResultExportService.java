@@ -0,0 +1,171 @@
+package football.StatsManagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import football.StatsManagement.exception.FootballException;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.repository.FootballRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 試合結果と個人成績のエクスポート
+ * Cursor で1件ずつ読み込み、そのまま出力先に書き込むため、件数に関わらずメモリ使用量は一定
+ * （Cursor はトランザクションが開いている間だけ読み込めるため、読み取り専用のトランザクション内で出力する）
+ */
+@Service
+public class GameResultExportService {
+
+  /**
+   * 出力形式
+   */
+  @Getter
+  public enum Format {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final MediaType mediaType;
+
+    Format(MediaType mediaType) {
+      this.mediaType = mediaType;
+    }
+
+    /**
+     * 文字列から出力形式を取得する（大文字・小文字は区別しない）
+     * @param format
+     * @return format
+     * @throws FootballException
+     */
+    public static Format of(String format) throws FootballException {
+      try {
+        return valueOf(format.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new FootballException("Format must be ndjson or csv");
+      }
+    }
+  }
+
+  // 出力する列（名前と値の取り出し方）
+  private record Column<T>(String name, Function<T, Object> value) {}
+
+  private static final List<Column<GameResult>> GAME_RESULT_COLUMNS = List.of(
+      new Column<>("id", GameResult::getId),
+      new Column<>("homeClubId", GameResult::getHomeClubId),
+      new Column<>("awayClubId", GameResult::getAwayClubId),
+      new Column<>("homeScore", GameResult::getHomeScore),
+      new Column<>("awayScore", GameResult::getAwayScore),
+      new Column<>("winnerClubId", GameResult::getWinnerClubId),
+      new Column<>("leagueId", GameResult::getLeagueId),
+      new Column<>("gameDate", GameResult::getGameDate),
+      new Column<>("seasonId", GameResult::getSeasonId)
+  );
+
+  private static final List<Column<PlayerGameStat>> PLAYER_GAME_STAT_COLUMNS = List.of(
+      new Column<>("id", PlayerGameStat::getId),
+      new Column<>("playerId", PlayerGameStat::getPlayerId),
+      new Column<>("clubId", PlayerGameStat::getClubId),
+      new Column<>("number", PlayerGameStat::getNumber),
+      new Column<>("starter", PlayerGameStat::isStarter),
+      new Column<>("goals", PlayerGameStat::getGoals),
+      new Column<>("assists", PlayerGameStat::getAssists),
+      new Column<>("minutes", PlayerGameStat::getMinutes),
+      new Column<>("yellowCards", PlayerGameStat::getYellowCards),
+      new Column<>("redCards", PlayerGameStat::getRedCards),
+      new Column<>("gameId", PlayerGameStat::getGameId)
+  );
+
+  private final FootballRepository repository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public GameResultExportService(FootballRepository repository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Export all game results
+   * @param outputStream
+   * @param format
+   */
+  public void exportGameResults(OutputStream outputStream, Format format) {
+    export(repository::selectGameResultsCursor, GAME_RESULT_COLUMNS, outputStream, format);
+  }
+
+  /**
+   * Export all player game stats
+   * @param outputStream
+   * @param format
+   */
+  public void exportPlayerGameStats(OutputStream outputStream, Format format) {
+    export(repository::selectPlayerGameStatsCursor, PLAYER_GAME_STAT_COLUMNS, outputStream, format);
+  }
+
+  private <T> void export(Supplier<Cursor<T>> query, List<Column<T>> columns, OutputStream outputStream, Format format) {
+    transactionTemplate.executeWithoutResult(status -> {
+      try (Cursor<T> cursor = query.get()) {
+        if (format == Format.CSV) {
+          writeCsv(cursor, columns, outputStream);
+        } else {
+          writeNdjson(cursor, columns, outputStream);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  // 1行に1件のJSONを書き込む（出力先は呼び出し側で閉じる）
+  private <T> void writeNdjson(Cursor<T> cursor, List<Column<T>> columns, OutputStream outputStream) throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    for (T row : cursor) {
+      generator.writeStartObject();
+      for (Column<T> column : columns) {
+        generator.writeObjectField(column.name(), column.value().apply(row));
+      }
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+    generator.close();
+  }
+
+  // 1行目に列名、2行目以降に1件ずつ値を書き込む（出力する列は全て数値・真偽値・日付のため、値のエスケープは不要）
+  private <T> void writeCsv(Cursor<T> cursor, List<Column<T>> columns, OutputStream outputStream) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    for (int i = 0; i < columns.size(); i++) {
+      writer.write(i == 0 ? "" : ",");
+      writer.write(columns.get(i).name());
+    }
+    writer.write('\n');
+    for (T row : cursor) {
+      for (int i = 0; i < columns.size(); i++) {
+        Object value = columns.get(i).value().apply(row);
+        writer.write(i == 0 ? "" : ",");
+        writer.write(value == null ? "" : value.toString());
+      }
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+}
@@ -0,0 +1,156 @@
+package football.StatsManagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import football.StatsManagement.exception.FootballException;
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.model.domain.ImportReport;
+import football.StatsManagement.model.domain.ImportReport.RowError;
+import football.StatsManagement.model.domain.json.GameResultWithPlayerStatsForJson;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 試合結果と個人成績の一括取り込み（過去シーズンの登録用）
+ * NDJSON（1行に1試合、POST /game-result と同じ形式）を1行ずつ読み込み、読み込み→入力チェック→整合性の確認→登録の順に処理する
+ * 確認済みの試合は chunkSize 件ごとにまとめて1トランザクションで登録するため、保持するのは最大 chunkSize 件の試合のみ
+ */
+@Service
+public class GameResultImportService {
+
+  public static final int DEFAULT_CHUNK_SIZE = 500;
+
+  private final FootballService service;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public GameResultImportService(FootballService service, ObjectMapper objectMapper, Validator validator,
+      PlatformTransactionManager transactionManager) {
+    this.service = service;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Import game results and player game stats
+   * @param inputStream NDJSON
+   * @param chunkSize 1トランザクションで登録する試合数
+   * @return 取り込み結果（登録できなかった行は行番号とエラー内容を返す）
+   * @throws IOException
+   */
+  public ImportReport importGameResults(InputStream inputStream, int chunkSize) throws IOException {
+    Progress progress = new Progress();
+    List<Row> chunk = new ArrayList<>(chunkSize);
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          chunk.add(new Row(lineNumber, prepare(line)));
+        } catch (FootballException | ResourceNotFoundException e) {
+          progress.fail(lineNumber, e.getMessage());
+          continue;
+        }
+        if (chunk.size() >= chunkSize) {
+          register(chunk, progress);
+          chunk.clear();
+        }
+      }
+    }
+    register(chunk, progress);
+    return progress.toImportReport();
+  }
+
+  // 1行を読み込み、入力チェックと整合性の確認を行う（DBへの登録は行わない）
+  private GameResultWithPlayerStats prepare(String line) throws FootballException, ResourceNotFoundException {
+    GameResultWithPlayerStatsForJson gameResultWithPlayerStatsForJson;
+    try {
+      gameResultWithPlayerStatsForJson = objectMapper.readValue(line, GameResultWithPlayerStatsForJson.class);
+    } catch (JsonProcessingException e) {
+      throw new FootballException("Invalid JSON: " + e.getOriginalMessage());
+    }
+    if (gameResultWithPlayerStatsForJson.getGameResult() == null
+        || gameResultWithPlayerStatsForJson.getHomeClubPlayerGameStats() == null
+        || gameResultWithPlayerStatsForJson.getAwayClubPlayerGameStats() == null) {
+      throw new FootballException("gameResult, homeClubPlayerGameStats and awayClubPlayerGameStats are required");
+    }
+    Set<ConstraintViolation<GameResultWithPlayerStatsForJson>> violations = validator.validate(gameResultWithPlayerStatsForJson);
+    if (!violations.isEmpty()) {
+      throw new FootballException(violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining(", ")));
+    }
+    GameResultWithPlayerStats gameResultWithPlayerStats = new GameResultWithPlayerStats(gameResultWithPlayerStatsForJson, service);
+    service.prepareImportedGameResultAndPlayerGameStats(gameResultWithPlayerStats);
+    return gameResultWithPlayerStats;
+  }
+
+  // chunk をまとめて登録する（失敗した場合は1行ずつ登録し直し、失敗した行を特定する）
+  private void register(List<Row> chunk, Progress progress) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    List<GameResultWithPlayerStats> gameResultsWithPlayerStats = chunk.stream().map(Row::gameResultWithPlayerStats).toList();
+    try {
+      transactionTemplate.executeWithoutResult(status -> service.registerPreparedGameResultsAndPlayerGameStats(gameResultsWithPlayerStats));
+      progress.succeed(chunk.size());
+      return;
+    } catch (RuntimeException e) {
+      // 1行ずつ登録し直す
+    }
+    for (Row row : chunk) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> service.registerPreparedGameResultsAndPlayerGameStats(List.of(row.gameResultWithPlayerStats())));
+        progress.succeed(1);
+      } catch (RuntimeException e) {
+        progress.fail(row.line(), e.getMessage());
+      }
+    }
+  }
+
+  private record Row(int line, GameResultWithPlayerStats gameResultWithPlayerStats) {}
+
+  // 取り込みの途中経過（エラーは上限まで保持し、件数は全て数える）
+  private static class Progress {
+    private int imported;
+    private int failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void succeed(int count) {
+      imported += count;
+    }
+
+    void fail(int line, String message) {
+      failed++;
+      if (errors.size() < ImportReport.MAX_ERRORS) {
+        errors.add(new RowError(line, message));
+      }
+    }
+
+    ImportReport toImportReport() {
+      return new ImportReport(imported, failed, List.copyOf(errors));
+    }
+  }
+}
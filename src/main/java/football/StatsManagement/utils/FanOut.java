@@ -0,0 +1,157 @@
+package football.StatsManagement.utils;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import football.StatsManagement.metrics.QueryCounter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 互いに独立した読み込みを仮想スレッドで並行に実行し、フォークした順に結果を受け取る
+ * 同時に実行するタスク数は接続プールの上限までとし、上限に達している場合は呼び出し元のスレッドで実行する
+ * トランザクション内では同じ接続（未コミットのデータ）を参照する必要があるため、すべて呼び出し元のスレッドで順に実行する
+ */
+public class FanOut {
+
+  private final Semaphore permits;
+
+  public FanOut(int maxConcurrency) {
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  @FunctionalInterface
+  public interface Task<T> {
+    T call() throws Exception;
+  }
+
+  /**
+   * タスクをフォークするスコープを開く（try-with-resources で使用する）
+   * @return scope
+   */
+  public Scope open() {
+    return new Scope();
+  }
+
+  /**
+   * フォークしたタスクの完了を join でまとめて待つスコープ
+   * 閉じる時点で完了していないタスクはキャンセルし、終了を待つ
+   */
+  public class Scope implements AutoCloseable {
+
+    private final boolean sequential = TransactionSynchronizationManager.isActualTransactionActive();
+    private final List<Future<?>> futures = new ArrayList<>();
+    private ExecutorService executor;
+    private boolean joined;
+
+    private Scope() {
+    }
+
+    /**
+     * タスクをフォークする
+     * @param task
+     * @return join 後に結果を取得する Supplier
+     */
+    public <T> Supplier<T> fork(Task<T> task) {
+      Future<T> future;
+      if (!sequential && permits.tryAcquire()) {
+        if (executor == null) {
+          executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+        }
+        // 許可は実行を終えたタスクが返却する（キャンセルされても JDBC の呼び出しは終わるまで接続を使い続けるため）
+        // 開始前にキャンセルされたタスクは実行されないため、done で返却する（claimed でどちらか一方のみ返却する）
+        AtomicBoolean claimed = new AtomicBoolean();
+        Callable<T> propagated = QueryCounter.propagate(task::call);
+        FutureTask<T> forked = new FutureTask<>(() -> {
+          if (!claimed.compareAndSet(false, true)) {
+            throw new CancellationException();
+          }
+          try {
+            return propagated.call();
+          } finally {
+            permits.release();
+          }
+        }) {
+          @Override
+          protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+        };
+        executor.execute(forked);
+        future = forked;
+      } else {
+        FutureTask<T> inline = new FutureTask<>(task::call);
+        inline.run();
+        future = inline;
+      }
+      futures.add(future);
+      return () -> {
+        if (!joined) {
+          throw new IllegalStateException("join() must be called before getting the result");
+        }
+        return future.resultNow();
+      };
+    }
+
+    /**
+     * フォークしたタスクの完了を待つ
+     * 失敗したタスクがあれば残りをキャンセルし、フォークした順で最初に失敗したタスクの例外を投げる
+     * @throws ResourceNotFoundException
+     */
+    public void join() throws ResourceNotFoundException {
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          cancelAll();
+          throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          cancelAll();
+          throw new IllegalStateException("Interrupted while waiting for subtasks", e);
+        }
+      }
+      joined = true;
+    }
+
+    @Override
+    public void close() {
+      if (!joined) {
+        cancelAll();
+      }
+      if (executor != null) {
+        // キャンセルしたタスクも含めて終了を待つ（スコープの外でタスクが動き続けないようにする）
+        executor.close();
+      }
+    }
+
+    private void cancelAll() {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  // タスクの例外をそのまま投げる（検査例外は ResourceNotFoundException のみ想定）
+  private static ResourceNotFoundException rethrow(Throwable cause) {
+    if (cause instanceof ResourceNotFoundException e) {
+      return e;
+    }
+    if (cause instanceof RuntimeException e) {
+      throw e;
+    }
+    if (cause instanceof Error e) {
+      throw e;
+    }
+    throw new IllegalStateException(cause);
+  }
+}
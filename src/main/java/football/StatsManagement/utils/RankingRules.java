@@ -0,0 +1,165 @@
+package football.StatsManagement.utils;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.domain.HeadToHead;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * リーグごとの順位決定基準の定義
+ * リーグIDと比較基準の並びを対応づけ、コンパイル済みの基準をリーグごとにキャッシュする
+ * 新しいリーグは RULES に1行追加するだけで対応できる
+ */
+public class RankingRules {
+
+  // 定義のないリーグに適用する基準
+  public static final List<TieBreakRule> DEFAULT_RULES = List.of(
+      TieBreakRule.POINTS,
+      TieBreakRule.GOAL_DIFFERENCE,
+      TieBreakRule.GOALS_FOR
+  );
+
+  private static final Map<Integer, List<TieBreakRule>> RULES = Map.of(
+      LeagueIds.PRIMERA_DIVISION_ID, List.of(
+          TieBreakRule.POINTS,
+          TieBreakRule.HEAD_TO_HEAD_POINTS_BOTH_LEGS,
+          TieBreakRule.HEAD_TO_HEAD_GOAL_DIFFERENCE_BOTH_LEGS,
+          TieBreakRule.GOAL_DIFFERENCE,
+          TieBreakRule.GOALS_FOR
+      ),
+      LeagueIds.ENGLISH_PREMIER_LEAGUE_ID, List.of(
+          TieBreakRule.POINTS,
+          TieBreakRule.GOAL_DIFFERENCE,
+          TieBreakRule.GOALS_FOR,
+          TieBreakRule.HEAD_TO_HEAD_POINTS,
+          TieBreakRule.HEAD_TO_HEAD_AWAY_GOALS
+      ),
+      LeagueIds.SERIE_A_ID, List.of(
+          TieBreakRule.POINTS,
+          TieBreakRule.HEAD_TO_HEAD_POINTS,
+          TieBreakRule.HEAD_TO_HEAD_GOAL_DIFFERENCE,
+          TieBreakRule.GOAL_DIFFERENCE,
+          TieBreakRule.GOALS_FOR
+      )
+  );
+
+  private static final Map<Integer, Compiled> COMPILED = new ConcurrentHashMap<>();
+
+  /**
+   * リーグの順位決定基準を取得する
+   * @param leagueId
+   * @return 比較基準の並び
+   */
+  public static List<TieBreakRule> rulesOf(int leagueId) {
+    return RULES.getOrDefault(leagueId, DEFAULT_RULES);
+  }
+
+  /**
+   * リーグのコンパイル済み基準を取得する（初回のみコンパイル）
+   * @param leagueId
+   * @return compiled
+   */
+  public static Compiled compiled(int leagueId) {
+    return COMPILED.computeIfAbsent(leagueId, id -> compile(rulesOf(id)));
+  }
+
+  /**
+   * 比較基準の並びを配列に展開してコンパイルする
+   * @param rules
+   * @return compiled
+   */
+  public static Compiled compile(List<TieBreakRule> rules) {
+    return new Compiled(rules.toArray(new TieBreakRule[0]));
+  }
+
+  /**
+   * コンパイル済みの比較基準
+   * 比較器によるペア比較ではなく、同順位のクラブ群を基準ごとに細分化して順位を確定させる
+   * （3クラブ以上が並んだ場合も当該チーム間の成績はクラブ群全体で集計するため、順序が推移的になる）
+   */
+  public static class Compiled {
+
+    private final TieBreakRule[] rules;
+    // 当該チーム間の基準でクラブ群が分割された場合に、分割後のクラブ群へ再適用を始める基準の位置
+    private final int[] restartIndexes;
+
+    private Compiled(TieBreakRule[] rules) {
+      this.rules = rules;
+      this.restartIndexes = new int[rules.length];
+      for (int i = 0; i < rules.length; i++) {
+        int start = i;
+        while (rules[i].isHeadToHead() && start > 0 && rules[start - 1].isHeadToHead()) {
+          start--;
+        }
+        restartIndexes[i] = rules[i].isHeadToHead() ? start : i + 1;
+      }
+    }
+
+    /**
+     * 順位順に並び替える
+     * @param clubForStandings
+     * @return 並び替えたclubForStandings
+     */
+    public List<ClubForStanding> sorted(List<ClubForStanding> clubForStandings) {
+      // 当該チーム間の成績はソート前に1度だけ集計しておく
+      HeadToHead headToHead = HeadToHead.of(clubForStandings);
+      int size = clubForStandings.size();
+      ClubForStanding[] clubs = clubForStandings.toArray(new ClubForStanding[0]);
+      int[] slots = new int[size];
+      for (int i = 0; i < size; i++) {
+        slots[i] = headToHead.slotOf(clubs[i].getClub().getId());
+      }
+      resolve(clubs, slots, new int[size], 0, size, 0, headToHead);
+      return new ArrayList<>(Arrays.asList(clubs));
+    }
+
+    // clubs[from]〜clubs[to - 1]の同順位のクラブ群を、ruleIndex番目以降の基準で並び替える
+    private void resolve(ClubForStanding[] clubs, int[] slots, int[] values, int from, int to, int ruleIndex, HeadToHead headToHead) {
+      if (to - from < 2 || ruleIndex >= rules.length) {
+        return;
+      }
+      TieBreakRule rule = rules[ruleIndex];
+      if (!rule.isApplicable(slots, from, to, headToHead)) {
+        resolve(clubs, slots, values, from, to, ruleIndex + 1, headToHead);
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        values[i] = rule.value(clubs[i], slots[i], slots, from, to, headToHead);
+      }
+      sortDescending(clubs, slots, values, from, to);
+      // 値が同じクラブ群ごとに次の基準を適用する
+      int start = from;
+      for (int i = from + 1; i <= to; i++) {
+        if (i < to && values[i] == values[start]) {
+          continue;
+        }
+        boolean split = i - start < to - from;
+        int next = split && rule.isHeadToHead() ? restartIndexes[ruleIndex] : ruleIndex + 1;
+        resolve(clubs, slots, values, start, i, next, headToHead);
+        start = i;
+      }
+    }
+
+    // 値の降順に安定ソートする（クラブ群は小さいため挿入ソート）
+    private static void sortDescending(ClubForStanding[] clubs, int[] slots, int[] values, int from, int to) {
+      for (int i = from + 1; i < to; i++) {
+        ClubForStanding club = clubs[i];
+        int slot = slots[i];
+        int value = values[i];
+        int j = i - 1;
+        while (j >= from && values[j] < value) {
+          clubs[j + 1] = clubs[j];
+          slots[j + 1] = slots[j];
+          values[j + 1] = values[j];
+          j--;
+        }
+        clubs[j + 1] = club;
+        slots[j + 1] = slot;
+        values[j + 1] = value;
+      }
+    }
+  }
+}
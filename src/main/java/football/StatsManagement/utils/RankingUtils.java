@@ -6,15 +6,9 @@ import java.util.stream.Collectors;
 
 public class RankingUtils {
 
+  // リーグごとの順位決定基準は RankingRules で定義する
   public static List<ClubForStanding> sortedClubForStandings(int leagueId, List<ClubForStanding> clubForStandings) {
-    if (leagueId == LeagueIds.PRIMERA_DIVISION_ID) {
-      return sortedClubForStandingsInPrimeraDivision(clubForStandings);
-    } else if (leagueId == LeagueIds.ENGLISH_PREMIER_LEAGUE_ID) {
-      return sortedClubForStandingsInEnglishPremierLeague(clubForStandings);
-    } else {
-
-    }
-    return clubForStandings;
+    return RankingRules.compiled(leagueId).sorted(clubForStandings);
   }
 
   // 勝ち点のみ考慮した順位付け
@@ -25,68 +19,13 @@ public class RankingUtils {
   }
 
   public static List<ClubForStanding> sortedClubForStandingsInPrimeraDivision(List<ClubForStanding> clubForStandings) {
-    return clubForStandings.stream()
-        .sorted((c1, c2) -> {
-          int c1Id = c1.getClub().getId();
-          int c2Id = c2.getClub().getId();
-          // ①勝ち点
-          if (c1.getPoints() != c2.getPoints()) {
-            return c2.getPoints() - c1.getPoints();
-          }
-          // ②当該チーム間の勝ち点（試合数が2試合に満たない場合は無効）
-          if (c1.getPointsAgainst(c2Id) != c2.getPointsAgainst(c1Id)
-              && c1.getGamesAgainst(c2Id) >= 2) {
-            return c2.getPointsAgainst(c1Id) - c1.getPointsAgainst(c2Id);
-          }
-          // ③当該チーム間の得失点差（試合数が2試合に満たない場合は無効）
-          if (c1.getGoalDifferencesAgainst(c2Id) != c2.getGoalDifferencesAgainst(c1Id)
-              && c1.getGamesAgainst(c2Id) >= 2) {
-            return c2.getGoalDifferencesAgainst(c1Id) - c1.getGoalDifferencesAgainst(c2Id);
-          }
-          // ④全試合の得失点差
-          if (c1.getGoalDifference() != c2.getGoalDifference()) {
-            return c2.getGoalDifference() - c1.getGoalDifference();
-          }
-          // ⑤全試合の得点
-          if (c1.getGoalsFor() != c2.getGoalsFor()) {
-            return c2.getGoalsFor() - c1.getGoalsFor();
-          }
-          // これ以降は現時点では考慮しない
-          return 0;
-        })
-        .collect(Collectors.toList());
+    // ①勝ち点 ②当該チーム間の勝ち点 ③当該チーム間の得失点差（②③は当該チーム間で2試合に満たない場合は無効） ④全試合の得失点差 ⑤全試合の得点
+    return sortedClubForStandings(LeagueIds.PRIMERA_DIVISION_ID, clubForStandings);
   }
 
   public static List<ClubForStanding> sortedClubForStandingsInEnglishPremierLeague(List<ClubForStanding> clubForStandings) {
-    // プレミアリーグの順位決定方法
-    return clubForStandings.stream()
-        .sorted((c1, c2) -> {
-          int c1Id = c1.getClub().getId();
-          int c2Id = c2.getClub().getId();
-          // ①勝ち点
-          if (c1.getPoints() != c2.getPoints()) {
-            return c2.getPoints() - c1.getPoints();
-          }
-          // ②得失点差
-          if (c1.getGoalDifference() != c2.getGoalDifference()) {
-            return c2.getGoalDifference() - c1.getGoalDifference();
-          }
-          // ③得点
-          if (c1.getGoalsFor() != c2.getGoalsFor()) {
-            return c2.getGoalsFor() - c1.getGoalsFor();
-          }
-          // ④当該チーム間の勝ち点
-          if (c1.getPointsAgainst(c2Id) != c2.getPointsAgainst(c1Id)) {
-            return c2.getPointsAgainst(c1Id) - c1.getPointsAgainst(c2Id);
-          }
-          // ⑤当該チーム間のアウェーゴール
-          if (c1.getAwayGoalsAgainst(c2Id) != c2.getAwayGoalsAgainst(c1Id)) {
-            return c2.getAwayGoalsAgainst(c1Id) - c1.getAwayGoalsAgainst(c2Id);
-          }
-          // これ以降は現時点では考慮しない
-          return 0;
-        })
-        .collect(Collectors.toList());
+    // ①勝ち点 ②得失点差 ③得点 ④当該チーム間の勝ち点 ⑤当該チーム間のアウェーゴール
+    return sortedClubForStandings(LeagueIds.ENGLISH_PREMIER_LEAGUE_ID, clubForStandings);
   }
 
 }
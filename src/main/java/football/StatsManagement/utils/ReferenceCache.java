@@ -0,0 +1,104 @@
+package football.StatsManagement.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 参照用データ（国・リーグ・クラブ・選手・シーズン）のためのキャッシュ
+ * 件数の上限を超えた場合は最も古く参照されたデータから破棄し、有効期限を過ぎたデータは参照時に破棄する
+ * 読み込み中に破棄が行われた場合は、読み込んだデータを登録しない（古いデータが残らないようにするため）
+ */
+public class ReferenceCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LongSupplier ticker;
+  private final LinkedHashMap<K, Entry<V>> entries;
+  // 破棄のたびに進める世代番号
+  private long generation;
+
+  private record Entry<V>(V value, long expiresAt) {}
+
+  public ReferenceCache(int maxSize, Duration ttl) {
+    this(maxSize, ttl, System::nanoTime);
+  }
+
+  // テスト用に時刻の取得方法を差し替えられるようにする
+  ReferenceCache(int maxSize, Duration ttl, LongSupplier ticker) {
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.ticker = ticker;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > ReferenceCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * キャッシュからデータを取得する
+   * @param key
+   * @return 有効なデータがなければempty
+   */
+  public synchronized Optional<V> get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (ticker.getAsLong() - entry.expiresAt() >= 0) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.value());
+  }
+
+  /**
+   * 現在の世代番号を取得する（データの読み込み前に取得し、登録時に渡す）
+   * @return generation
+   */
+  public synchronized long generation() {
+    return generation;
+  }
+
+  /**
+   * データを登録する
+   * @param key
+   * @param value
+   * @param generation 読み込み前に取得した世代番号（その後に破棄が行われていれば登録しない）
+   */
+  public synchronized void put(K key, V value, long generation) {
+    if (this.generation != generation) {
+      return;
+    }
+    entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+  }
+
+  /**
+   * データを破棄する
+   * @param key
+   */
+  public synchronized void evict(K key) {
+    generation++;
+    entries.remove(key);
+  }
+
+  /**
+   * 全てのデータを破棄する
+   */
+  public synchronized void clear() {
+    generation++;
+    entries.clear();
+  }
+
+  /**
+   * 保持している件数を取得する（期限切れのデータを含む）
+   * @return size
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+}
@@ -0,0 +1,148 @@
+package football.StatsManagement.utils;
+
+import football.StatsManagement.model.domain.ClubForStanding;
+import football.StatsManagement.model.domain.HeadToHead;
+
+/**
+ * 順位決定のための比較基準
+ * 各基準はクラブごとの値（大きいほど上位）を返す
+ * 当該チーム間の基準は、同順位で並んだクラブ群（slots[from]〜slots[to - 1]）の間の試合のみで集計する（ミニリーグ方式）
+ */
+public enum TieBreakRule {
+
+  // 勝ち点
+  POINTS(false) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      return club.getPoints();
+    }
+  },
+
+  // 全試合の得失点差
+  GOAL_DIFFERENCE(false) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      return club.getGoalDifference();
+    }
+  },
+
+  // 全試合の得点
+  GOALS_FOR(false) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      return club.getGoalsFor();
+    }
+  },
+
+  // 当該チーム間の勝ち点
+  HEAD_TO_HEAD_POINTS(true) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      int points = 0;
+      for (int i = from; i < to; i++) {
+        points += headToHead.getPoints(slot, slots[i]);
+      }
+      return points;
+    }
+  },
+
+  // 当該チーム間の勝ち点（全ての組み合わせでホーム・アウェーの2試合を終えていない場合は無効）
+  HEAD_TO_HEAD_POINTS_BOTH_LEGS(true) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      return HEAD_TO_HEAD_POINTS.value(club, slot, slots, from, to, headToHead);
+    }
+
+    @Override
+    public boolean isApplicable(int[] slots, int from, int to, HeadToHead headToHead) {
+      return playedBothLegs(slots, from, to, headToHead);
+    }
+  },
+
+  // 当該チーム間の得失点差
+  HEAD_TO_HEAD_GOAL_DIFFERENCE(true) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      int goalDifferences = 0;
+      for (int i = from; i < to; i++) {
+        goalDifferences += headToHead.getGoalDifferences(slot, slots[i]);
+      }
+      return goalDifferences;
+    }
+  },
+
+  // 当該チーム間の得失点差（全ての組み合わせでホーム・アウェーの2試合を終えていない場合は無効）
+  HEAD_TO_HEAD_GOAL_DIFFERENCE_BOTH_LEGS(true) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      return HEAD_TO_HEAD_GOAL_DIFFERENCE.value(club, slot, slots, from, to, headToHead);
+    }
+
+    @Override
+    public boolean isApplicable(int[] slots, int from, int to, HeadToHead headToHead) {
+      return playedBothLegs(slots, from, to, headToHead);
+    }
+  },
+
+  // 当該チーム間のアウェーゴール
+  HEAD_TO_HEAD_AWAY_GOALS(true) {
+    @Override
+    public int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead) {
+      int awayGoals = 0;
+      for (int i = from; i < to; i++) {
+        awayGoals += headToHead.getAwayGoals(slot, slots[i]);
+      }
+      return awayGoals;
+    }
+  };
+
+  private final boolean headToHead;
+
+  TieBreakRule(boolean headToHead) {
+    this.headToHead = headToHead;
+  }
+
+  /**
+   * 当該チーム間の試合のみで集計する基準かどうか
+   * @return 当該チーム間の基準であればtrue
+   */
+  public boolean isHeadToHead() {
+    return headToHead;
+  }
+
+  /**
+   * クラブの比較用の値を取得する
+   * @param club
+   * @param slot clubの枠番号
+   * @param slots 同順位で並んだクラブ群の枠番号
+   * @param from slotsの開始位置（この位置を含む）
+   * @param to slotsの終了位置（この位置を含まない）
+   * @param headToHead 当該チーム間の成績行列
+   * @return 比較用の値（大きいほど上位）
+   */
+  public abstract int value(ClubForStanding club, int slot, int[] slots, int from, int to, HeadToHead headToHead);
+
+  /**
+   * クラブ群に対してこの基準を適用できるかどうか
+   * @param slots
+   * @param from
+   * @param to
+   * @param headToHead
+   * @return 適用できればtrue
+   */
+  public boolean isApplicable(int[] slots, int from, int to, HeadToHead headToHead) {
+    return true;
+  }
+
+  // クラブ群の全ての組み合わせで2試合以上を終えているか確認
+  private static boolean playedBothLegs(int[] slots, int from, int to, HeadToHead headToHead) {
+    for (int i = from; i < to; i++) {
+      for (int j = i + 1; j < to; j++) {
+        if (headToHead.getGames(slots[i], slots[j]) < 2) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
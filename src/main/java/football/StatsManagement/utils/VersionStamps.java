@@ -0,0 +1,74 @@
+package football.StatsManagement.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 集計結果ごとのバージョン（ETag・Last-Modified の元になる値）
+ * 更新のたびに全体で一意な連番を割り当てるため、同じ ETag が異なる内容を指すことはない
+ * 起動ごとに異なる値を ETag に含め、再起動前の ETag と一致しないようにする
+ */
+public class VersionStamps<K> {
+
+  /**
+   * @param etag 引用符なしの ETag
+   * @param lastModified 最終更新日時（エポックミリ秒）
+   */
+  public record Stamp(String etag, long lastModified) {}
+
+  private record Version(long sequence, long modifiedAt) {}
+
+  private final String instanceId;
+  private final LongSupplier clock;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<K, Version> versions = new ConcurrentHashMap<>();
+  // bumpAll で更新する全体のバージョン（キーごとのバージョンより新しければこちらを使う）
+  private volatile Version base;
+
+  public VersionStamps() {
+    this(System::currentTimeMillis);
+  }
+
+  // テスト用に時刻の取得方法を差し替えられるようにする
+  VersionStamps(LongSupplier clock) {
+    this.clock = clock;
+    long startedAt = clock.getAsLong();
+    this.instanceId = Long.toString(startedAt, 36);
+    this.base = new Version(0, startedAt);
+  }
+
+  /**
+   * 現在のバージョンを取得する（集計を行う前に取得する）
+   * @param key
+   * @return stamp
+   */
+  public Stamp get(K key) {
+    Version base = this.base;
+    Version version = versions.get(key);
+    if (version == null || version.sequence() < base.sequence()) {
+      version = base;
+    }
+    return new Stamp(instanceId + "-" + version.sequence(), version.modifiedAt());
+  }
+
+  /**
+   * バージョンを進める（コミット後に呼び出す）
+   * @param key
+   */
+  public void bump(K key) {
+    versions.put(key, new Version(sequence.incrementAndGet(), clock.getAsLong()));
+  }
+
+  /**
+   * 全てのバージョンを進める（名前の変更など、多くの集計結果に影響する更新の場合）
+   * 全体のバージョンより古いキーのみ削除し、並行して進めたキーのバージョンは残す
+   */
+  public void bumpAll() {
+    Version base = new Version(sequence.incrementAndGet(), clock.getAsLong());
+    this.base = base;
+    // ConcurrentHashMap の removeIf は値が変わっていない場合のみ削除する
+    versions.values().removeIf(version -> version.sequence() < base.sequence());
+  }
+}
@@ -0,0 +1,7 @@
+-- よく使う検索条件に合わせた複合インデックス
+-- クラブ・シーズンごとの試合結果（ホーム・アウェーそれぞれの条件を UNION ALL で検索する）
+CREATE INDEX idx_game_results_season_home_club ON game_results (season_id, home_club_id);
+CREATE INDEX idx_game_results_season_away_club ON game_results (season_id, away_club_id);
+-- 選手ごと・クラブごとの試合成績（game_id で game_results と結合してシーズンで絞り込む）
+CREATE INDEX idx_player_game_stats_player_game ON player_game_stats (player_id, game_id);
+CREATE INDEX idx_player_game_stats_club_game ON player_game_stats (club_id, game_id);
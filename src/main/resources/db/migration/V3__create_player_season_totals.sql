@@ -0,0 +1,31 @@
+-- 選手の (クラブ, シーズン) ごとの成績の集計。試合結果の登録と同じトランザクションで加算する
+-- first_stat_id は通算成績の表示順（(シーズン, クラブ) ごとの最初の試合成績のID）
+CREATE TABLE `player_season_totals` (
+  `player_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `games` int NOT NULL DEFAULT 0,
+  `starter_games` int NOT NULL DEFAULT 0,
+  `goals` int NOT NULL DEFAULT 0,
+  `assists` int NOT NULL DEFAULT 0,
+  `minutes` int NOT NULL DEFAULT 0,
+  `yellow_cards` int NOT NULL DEFAULT 0,
+  `red_cards` int NOT NULL DEFAULT 0,
+  `first_stat_id` int NOT NULL,
+  PRIMARY KEY (`player_id`, `club_id`, `season_id`),
+  FOREIGN KEY (`player_id`) REFERENCES `players`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
+-- クラブ・シーズンごとの選手成績
+CREATE INDEX idx_player_season_totals_club_season ON player_season_totals (club_id, season_id);
+
+-- 既存の試合成績から作成する
+INSERT INTO player_season_totals (player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id)
+SELECT pgs.player_id, pgs.club_id, gr.season_id,
+  COUNT(pgs.id), COALESCE(SUM(pgs.starter), 0), COALESCE(SUM(pgs.goals), 0), COALESCE(SUM(pgs.assists), 0),
+  COALESCE(SUM(pgs.minutes), 0), COALESCE(SUM(pgs.yellow_cards), 0), COALESCE(SUM(pgs.red_cards), 0), MIN(pgs.id)
+FROM player_game_stats pgs
+JOIN game_results gr ON pgs.game_id = gr.id
+WHERE pgs.player_id IS NOT NULL AND pgs.club_id IS NOT NULL
+GROUP BY pgs.player_id, pgs.club_id, gr.season_id;
@@ -2,8 +2,11 @@ package football.StatsManagement;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,11 +21,13 @@ import football.StatsManagement.model.data.Season;
 import football.StatsManagement.model.domain.ClubForStanding;
 import football.StatsManagement.model.domain.GameResultWithPlayerStats;
 import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.domain.SeasonSummary;
 import football.StatsManagement.model.domain.Standing;
 import football.StatsManagement.model.domain.json.GameResultForJson;
 import football.StatsManagement.model.domain.json.GameResultWithPlayerStatsForJson;
 import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
 import football.StatsManagement.utils.TestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -40,6 +45,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.spring6.expression.Mvc;
 
@@ -60,6 +66,9 @@ class FootballIntegrationTest {
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @Test
   @DisplayName("現在シーズンが取得できること")
   void getCurrentSeason() throws Exception {
@@ -73,6 +82,20 @@ class FootballIntegrationTest {
         .andExpect(content().json(expectedJson));
   }
 
+  @Test
+  @DisplayName("リクエストごとのクエリ数、サービスの実行時間、マッパーの実行時間と取得件数が記録されること")
+  void metrics() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/clubs"))
+        .andExpect(status().isOk());
+
+    assertThat(meterRegistry.find("football.request.queries").tag("uri", "/leagues/{leagueId}/clubs").summary())
+        .isNotNull()
+        .satisfies(summary -> assertThat(summary.max()).isGreaterThanOrEqualTo(1));
+    assertThat(meterRegistry.find("football.service").tag("method", "getClubsByLeague").timer()).isNotNull();
+    assertThat(meterRegistry.find("football.repository").tag("statement", "selectClubsByLeague").timer()).isNotNull();
+    assertThat(meterRegistry.find("football.repository.rows").tag("statement", "selectClubsByLeague").summary()).isNotNull();
+  }
+
   @Test
   @DisplayName("全シーズンが取得できること")
   void getSeasons() throws Exception {
@@ -283,6 +306,54 @@ class FootballIntegrationTest {
     return new Standing(leagueId, seasonId, List.of(clubForStanding1, clubForStanding2), "LeagueAA", "2019-20");
   }
 
+  @Test
+  @DisplayName("順位表の取得時に返却されたETagを指定した場合は304が返ること")
+  void getStanding_NotModified() throws Exception {
+    int leagueId = 1;
+    int seasonId = 201920;
+    String etag = mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    assertThat(etag).isNotBlank();
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId)
+            .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  // コミット後にバージョンを進めるため、このテストではトランザクションを使用せず、最後に移籍を元に戻す
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("選手の移籍後は、移籍前に返却されたETagを指定してもクラブ所属選手シーズン成績が200で返ること")
+  void getPlayerSeasonStatsByClubId_afterTransfer() throws Exception {
+    String path = "/clubs/1/players-season-stats/201920";
+    String etag = mockMvc.perform(MockMvcRequestBuilders.get(path))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].playerId").value(1))
+        .andReturn().getResponse().getHeader("ETag");
+    assertThat(etag).isNotBlank();
+
+    try {
+      transferPlayer(1, 2, 99);
+
+      mockMvc.perform(MockMvcRequestBuilders.get(path)
+              .header("If-None-Match", etag))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].playerId").value(2));
+    } finally {
+      transferPlayer(1, 1, 1);
+    }
+  }
+
+  private void transferPlayer(int playerId, int clubId, int number) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.patch("/player-transfer/" + playerId)
+            .contentType("application/json")
+            .content("{\"clubId\": " + clubId + ", \"number\": " + number + "}"))
+        .andExpect(status().isOk());
+  }
+
   @ParameterizedTest
   @CsvSource({
       "99, 201920",
@@ -338,11 +409,67 @@ class FootballIntegrationTest {
     List<PlayerSeasonStat> expected = getPlayersSeasonStatsByClub(seasonId, clubId);
     String expectedJson = objectMapper.writeValueAsString(expected);
 
-    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId))
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId + "?include=games"))
         .andExpect(status().isOk())
         .andExpect(content().json(expectedJson));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "99, 201920",
+      "1, 999999"
+  })
+  @DisplayName("クラブIDまたはシーズンIDに対応する選手シーズン成績一覧が取得できない場合は404エラーが返ること")
+  void getPlayerSeasonStatsByClubId_NotFound(int clubId, int seasonId) throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("クラブIDに基づく選手シーズン成績一覧が、既定では試合ごとの成績を含まずに取得できること")
+  void getPlayerSeasonStatsByClubId_withoutGames() throws Exception {
+    int clubId = 1;
+    int seasonId = 201920;
+
+    List<PlayerSeasonStat> expected = getPlayersSeasonStatsByClub(seasonId, clubId).stream()
+        .map(playerSeasonStat -> playerSeasonStat.withPlayerGameStats(null))
+        .toList();
+    String expectedJson = objectMapper.writeValueAsString(expected);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId))
+        .andExpect(status().isOk())
+        .andExpect(content().json(expectedJson))
+        .andExpect(jsonPath("$[0].playerGameStats").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("シーズンIDに基づくシーズン成績の合計が取得できること")
+  void getSeasonSummary() throws Exception {
+    SeasonSummary expected = new SeasonSummary(201920, 3, 8, 4, 1, 1, 1080, 0, 0);
+    mockMvc.perform(MockMvcRequestBuilders.get("/seasons/201920/summary"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+  }
+
+  @Test
+  @DisplayName("リーグIDとシーズンIDに基づく選手ランキングがページ単位で取得できること")
+  void getLeaders() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaders/201920?stat=minutes&limit=2&offset=0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.stat").value("minutes"))
+        .andExpect(jsonPath("$.nextOffset").value(2))
+        .andExpect(jsonPath("$.leaders.length()").value(2))
+        .andExpect(jsonPath("$.leaders[0].playerId").value(1))
+        .andExpect(jsonPath("$.leaders[1].playerId").value(2))
+        .andExpect(jsonPath("$.leaders[1].rank").value(1));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaders/201920?stat=minutes&limit=2&offset=2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextOffset").doesNotExist())
+        .andExpect(jsonPath("$.leaders[0].playerId").value(3))
+        .andExpect(jsonPath("$.leaders[1].playerId").value(4));
+  }
+
   private List<PlayerSeasonStat> getPlayersSeasonStatsByClub(int seasonId, int clubId) {
     //    (player_id, club_id, number, starter, goals, assists, minutes, yellow_cards, red_cards, game_id)
 //    1:(1, 1, 1, 1, 1, 0, 90, 0, 0, 1),
@@ -372,7 +499,7 @@ class FootballIntegrationTest {
     List<PlayerSeasonStat> expected = getPlayersSeasonStats(seasonId, playerId);
     String expectedJson = objectMapper.writeValueAsString(expected);
 
-    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-season-stats/" + seasonId))
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-season-stats/" + seasonId + "?include=games"))
         .andExpect(status().isOk())
         .andExpect(content().json(expectedJson));
   }
@@ -399,7 +526,7 @@ class FootballIntegrationTest {
     List<PlayerSeasonStat> expected = getPlayerCareerStats(playerId);
     String expectedJson = objectMapper.writeValueAsString(expected);
 
-    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-career-stats"))
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-career-stats" + "?include=games"))
         .andExpect(status().isOk())
         .andExpect(content().json(expectedJson));
   }
@@ -645,6 +772,15 @@ class FootballIntegrationTest {
 
     String actualJson = result.getResponse().getContentAsString();
     TestUtils.compareJson(expectedJson, actualJson);
+
+    // 登録した試合成績が集計テーブルを通じてシーズン成績に反映されること（背番号順のため先頭は選手17）
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + homeClubId + "/players-season-stats/202021"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].playerId").value(17))
+        .andExpect(jsonPath("$[0].games").value(1))
+        .andExpect(jsonPath("$[0].goals").value(1))
+        .andExpect(jsonPath("$[0].assists").value(2))
+        .andExpect(jsonPath("$[0].minutes").value(90));
   }
 
   @ParameterizedTest
@@ -724,6 +860,56 @@ class FootballIntegrationTest {
 
 
 
+  @Test
+  @DisplayName("過去シーズンの試合結果が一括取り込みでき、登録できなかった行が報告されること")
+  void importGameResults() throws Exception {
+    GameResultForJson gameResultForJson = new GameResultForJson(9, 10, 1, 0, 4, LocalDate.of(2019, 8, 1), 201920);
+    List<PlayerGameStatForJson> homeClubPlayerGameStatsForJson = new ArrayList<>();
+    List<PlayerGameStatForJson> awayClubPlayerGameStatsForJson = new ArrayList<>();
+    for (int i = 0; i < 11; i++) {
+      homeClubPlayerGameStatsForJson.add(new PlayerGameStatForJson(17 + i, true, i == 0 ? 1 : 0, 0, 90, 0, 0));
+      awayClubPlayerGameStatsForJson.add(new PlayerGameStatForJson(32 + i, true, 0, 0, 90, 0, 0));
+    }
+    String validLine = objectMapper.writeValueAsString(new GameResultWithPlayerStatsForJson(
+        gameResultForJson, homeClubPlayerGameStatsForJson, awayClubPlayerGameStatsForJson));
+    // 2行目はシーズン外の試合日
+    String invalidLine = validLine.replace("2019-08-01", "2020-08-01");
+
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/import")
+            .contentType("application/x-ndjson")
+            .content(validLine + "\n" + invalidLine + "\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.errors[0].line").value(2))
+        .andExpect(jsonPath("$.errors[0].message").value("Game date is not in the season"));
+
+    Integer gameCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM game_results WHERE season_id = 201920 AND game_date = '2019-08-01' AND home_club_id = 9", Integer.class);
+    assertThat(gameCount).isEqualTo(1);
+    Integer playerGameStatCount = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM player_game_stats pgs JOIN game_results gr ON pgs.game_id = gr.id WHERE gr.game_date = '2019-08-01' AND gr.home_club_id = 9", Integer.class);
+    assertThat(playerGameStatCount).isEqualTo(22);
+  }
+
+  @Test
+  @DisplayName("全試合結果がCSVでエクスポートできること_列名の行と全件の行が出力されること")
+  void exportGameResults() throws Exception {
+    int gameCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM game_results", Integer.class);
+
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/game-results/export").param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String body = mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertThat(lines[0]).isEqualTo("id,homeClubId,awayClubId,homeScore,awayScore,winnerClubId,leagueId,gameDate,seasonId");
+    assertThat(lines).hasSize(gameCount + 1);
+    assertThat(lines[1]).startsWith("1,1,2,2,1,1,1,2019-08-01,201920");
+  }
+
   @Test
   @DisplayName("シーズンが登録できること")
   void registerSeason() throws Exception {
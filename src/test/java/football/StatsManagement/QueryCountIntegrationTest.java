@@ -0,0 +1,123 @@
+package football.StatsManagement;
+
+import static football.StatsManagement.metrics.QueryCountAssertions.assertMaxQueries;
+import static football.StatsManagement.metrics.QueryCountAssertions.countQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import football.StatsManagement.model.domain.json.GameResultForJson;
+import football.StatsManagement.model.domain.json.GameResultWithPlayerStatsForJson;
+import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
+import football.StatsManagement.service.FootballService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * リクエスト・サービス呼び出しごとのクエリ数の上限を確認する（N+1 の再発防止）
+ * テストはトランザクション内で実行され参照データのキャッシュが使われないため、上限はキャッシュなしのクエリ数で設定する
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional
+class QueryCountIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private FootballService service;
+
+  @Test
+  @DisplayName("20クラブのリーグの順位表が、2クラブのリーグと同じく4クエリ以下で取得できること")
+  void getStanding() throws Exception {
+    int leagueId = insertLeagueWithDoubleRoundRobin(20, 202021);
+
+    int twentyClubs = countQueries(() -> mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/202021"))
+        .andExpect(status().isOk()));
+    int twoClubs = countQueries(() -> mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/standings/202021"))
+        .andExpect(status().isOk()));
+
+    // クラブ・試合結果・リーグ・シーズンを1回ずつ
+    assertThat(twentyClubs).isLessThanOrEqualTo(4);
+    assertThat(twentyClubs).isEqualTo(twoClubs);
+  }
+
+  @Test
+  @DisplayName("クラブの選手シーズン成績が、試合ごとの成績を含めても4クエリ以下で取得できること")
+  void getPlayerSeasonStatsByClubId() throws Exception {
+    // クラブ・シーズンの存在確認はキャッシュから行う
+    service.getClub(1);
+    service.getSeason(201920);
+    assertMaxQueries(1, () -> service.getPlayerSeasonStatsByClubId(1, 201920, false));
+    // 集計・試合ごとの成績・試合結果・対戦相手のクラブを1回ずつ
+    assertMaxQueries(4, () -> service.getPlayerSeasonStatsByClubId(1, 201920, true));
+  }
+
+  @Test
+  @DisplayName("選手の通算成績が、試合ごとの成績を含めても4クエリ以下で取得できること")
+  void getPlayerSeasonStatsByPlayerId() throws Exception {
+    assertMaxQueries(1, () -> service.getPlayerSeasonStatsByPlayerId(1, false));
+    assertMaxQueries(4, () -> service.getPlayerSeasonStatsByPlayerId(1, true));
+  }
+
+  @Test
+  @DisplayName("試合結果の登録が、出場選手の人数に関わらず8クエリ以下で行えること")
+  void registerGameResult() throws Exception {
+    List<PlayerGameStatForJson> homeClubPlayerGameStats = new ArrayList<>();
+    List<PlayerGameStatForJson> awayClubPlayerGameStats = new ArrayList<>();
+    for (int i = 0; i < 14; i++) {
+      homeClubPlayerGameStats.add(new PlayerGameStatForJson(17 + i, i < 11, i == 0 ? 1 : 0, 0, i < 11 ? 90 : 10, 0, 0));
+      awayClubPlayerGameStats.add(new PlayerGameStatForJson(32 + i, i < 11, 0, 0, i < 11 ? 90 : 10, 0, 0));
+    }
+    String requestBody = objectMapper.writeValueAsString(new GameResultWithPlayerStatsForJson(
+        new GameResultForJson(9, 10, 1, 0, 4, LocalDate.of(2020, 8, 1), 202021),
+        homeClubPlayerGameStats, awayClubPlayerGameStats));
+
+    // シーズン・出場選手・リーグ・クラブ2件の確認（5回）と、試合結果・選手成績の登録、選手シーズン成績の集計（player_season_totals）への加算を1回ずつ（3回）
+    assertMaxQueries(8, () -> mockMvc.perform(MockMvcRequestBuilders.post("/game-result")
+            .contentType("application/json")
+            .content(requestBody))
+        .andExpect(status().isOk()));
+  }
+
+  // クラブ数分のクラブを持つリーグを作成し、全クラブがホーム・アウェーで1試合ずつ対戦した試合結果を登録する
+  private int insertLeagueWithDoubleRoundRobin(int clubCount, int seasonId) {
+    jdbcTemplate.update("INSERT INTO leagues (name, country_id) VALUES ('LeagueQC', 1)");
+    int leagueId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM leagues", Integer.class);
+    for (int i = 0; i < clubCount; i++) {
+      jdbcTemplate.update("INSERT INTO clubs (name, league_id) VALUES (?, ?)", "ClubQC" + i, leagueId);
+    }
+    List<Integer> clubIds = jdbcTemplate.queryForList("SELECT id FROM clubs WHERE league_id = ? ORDER BY id", Integer.class, leagueId);
+    List<Object[]> games = new ArrayList<>();
+    for (int home : clubIds) {
+      for (int away : clubIds) {
+        if (home != away) {
+          games.add(new Object[] {home, away, leagueId, seasonId});
+        }
+      }
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO game_results (home_club_id, away_club_id, home_score, away_score, winner_club_id, league_id, game_date, season_id) "
+        + "VALUES (?, ?, 1, 0, ?, ?, '2020-08-01', ?)",
+        games.stream().map(game -> new Object[] {game[0], game[1], game[0], game[2], game[3]}).toList());
+    return leagueId;
+  }
+}
@@ -0,0 +1,102 @@
+package football.StatsManagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+/**
+ * 高い同時接続数でのスループットを、仮想スレッドとプラットフォームスレッドで比較する負荷テスト
+ * 通常のテストからは除外しており、./gradlew loadTest で実行する（結果は標準出力に出力する）
+ * DBは組み込みのH2のため、I/Oの待ち時間が長い本番環境よりも差は小さく出る
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+  private static final int REQUESTS = 5000;
+  private static final int CONCURRENCY = 1000;
+  private static final int WARMUP_REQUESTS = 500;
+  // 試合日のアクセスが多い画面（順位表・クラブの選手成績・選手の通算成績）
+  private static final List<String> PATHS = List.of(
+      "/leagues/1/standings/202021",
+      "/clubs/1/players-season-stats/201920?include=games",
+      "/players/1/player-career-stats?include=games");
+
+  private record Result(String mode, int requests, int succeeded, double seconds) {
+    double throughput() {
+      return requests / seconds;
+    }
+  }
+
+  @Test
+  @DisplayName("高い同時接続数でも仮想スレッド・プラットフォームスレッドとも全リクエストが成功し、スループットを比較できること")
+  void compareThroughput() throws Exception {
+    Result platform = measure(false);
+    Result virtual = measure(true);
+
+    for (Result result : List.of(platform, virtual)) {
+      System.out.printf("%-8s requests=%d succeeded=%d time=%.2fs throughput=%.0f req/s%n",
+          result.mode(), result.requests(), result.succeeded(), result.seconds(), result.throughput());
+    }
+    assertThat(platform.succeeded()).isEqualTo(REQUESTS);
+    assertThat(virtual.succeeded()).isEqualTo(REQUESTS);
+  }
+
+  // アプリケーションを起動し、同時接続数を CONCURRENCY に保ちながら REQUESTS 件のリクエストを送る
+  private static Result measure(boolean virtualThreads) throws Exception {
+    String mode = virtualThreads ? "virtual" : "platform";
+    try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(Application.class)
+        .run("--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtualThreads,
+            "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--logging.level.football.StatsManagement=WARN")) {
+      String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+      HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .executor(Executors.newVirtualThreadPerTaskExecutor())
+          .build();
+
+      send(client, baseUrl, WARMUP_REQUESTS);
+      long start = System.nanoTime();
+      int succeeded = send(client, baseUrl, REQUESTS);
+      double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+      return new Result(mode, REQUESTS, succeeded, seconds);
+    }
+  }
+
+  // 全リクエストの完了を待ち、200が返却された件数を返す
+  private static int send(HttpClient client, String baseUrl, int requests) {
+    Semaphore permits = new Semaphore(CONCURRENCY);
+    AtomicInteger succeeded = new AtomicInteger();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < requests; i++) {
+        URI uri = URI.create(baseUrl + PATHS.get(i % PATHS.size()));
+        executor.submit(() -> {
+          permits.acquire();
+          try {
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+              succeeded.incrementAndGet();
+            }
+          } finally {
+            permits.release();
+          }
+          return null;
+        });
+      }
+    }
+    return succeeded.get();
+  }
+}
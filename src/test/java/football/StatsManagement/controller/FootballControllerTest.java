@@ -2,9 +2,18 @@ package football.StatsManagement.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import football.StatsManagement.exception.FootballException;
@@ -13,15 +22,23 @@ import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.Season;
 import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.PlayerSeasonTotalsReport;
 import football.StatsManagement.model.domain.Standing;
 import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
 import football.StatsManagement.service.FootballService;
+import football.StatsManagement.service.GameResultExportService;
+import football.StatsManagement.service.GameResultImportService;
+import football.StatsManagement.utils.VersionStamps;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,7 +47,9 @@ import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -45,6 +64,23 @@ class FootballControllerTest {
   @MockBean
   private FootballService service;
 
+  @MockBean
+  private GameResultImportService importService;
+
+  @MockBean
+  private GameResultExportService exportService;
+
+  private static final VersionStamps.Stamp STAMP = new VersionStamps.Stamp("v1-1", 1_700_000_000_000L);
+
+  @BeforeEach
+  void setUp() {
+    // 条件付きGETで使用するバージョン
+    when(service.getStandingVersion(anyInt(), anyInt())).thenReturn(STAMP);
+    when(service.getClubSeasonStatsVersion(anyInt(), anyInt())).thenReturn(STAMP);
+    when(service.getPlayerSeasonStatsVersion(anyInt(), anyInt())).thenReturn(STAMP);
+    when(service.getPlayerCareerStatsVersion(anyInt())).thenReturn(STAMP);
+  }
+
   @Test
   @DisplayName("現在シーズンを取得できること")
   void getCurrentSeason() throws Exception {
@@ -79,6 +115,16 @@ class FootballControllerTest {
         .andExpect(result -> assertTrue(result.getResolvedException() instanceof ConstraintViolationException));
   }
 
+  @Test
+  @DisplayName("DBの接続を待つ時間の上限を超えた場合、503エラーとRetry-Afterが返却されること")
+  void getCountryWithConnectionTimeout() throws Exception {
+    int id = 1;
+    when(service.getCountry(id)).thenThrow(new CannotGetJdbcConnectionException("Connection is not available"));
+    mockMvc.perform(MockMvcRequestBuilders.get("/countries/" + id))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
   @Test
   @DisplayName("IDを指定してリーグを取得できること")
   void getLeague() throws Exception {
@@ -190,10 +236,28 @@ class FootballControllerTest {
   void getStanding() throws Exception {
     int leagueId = 1;
     int seasonId = 100001;
-    MockedStatic<Standing> standing = mockStatic(Standing.class);
-    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId))
-        .andExpect(status().isOk());
-    standing.verify(() -> Standing.initialStanding(leagueId, seasonId, service));
+    try (MockedStatic<Standing> standing = mockStatic(Standing.class)) {
+      mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId))
+          .andExpect(status().isOk());
+      standing.verify(() -> Standing.initialStanding(leagueId, seasonId, service));
+    }
+  }
+
+  @Test
+  @DisplayName("順位表を取得する際にETagが返却され、同じETagを指定した場合は順位表を作成せずに304が返却されること")
+  void getStandingWithIfNoneMatch() throws Exception {
+    int leagueId = 1;
+    int seasonId = 100001;
+    try (MockedStatic<Standing> standing = mockStatic(Standing.class)) {
+      mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId))
+          .andExpect(status().isOk())
+          .andExpect(header().string("ETag", "\"v1-1\""));
+
+      mockMvc.perform(MockMvcRequestBuilders.get("/leagues/" + leagueId + "/standings/" + seasonId)
+              .header("If-None-Match", "\"v1-1\""))
+          .andExpect(status().isNotModified());
+      standing.verify(() -> Standing.initialStanding(leagueId, seasonId, service), times(1));
+    }
   }
 
   @ParameterizedTest
@@ -255,7 +319,18 @@ class FootballControllerTest {
     int seasonId = 100001;
     mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId))
         .andExpect(status().isOk());
-    verify(service, times(1)).getPlayerSeasonStatsByClubId(clubId, seasonId);
+    verify(service, times(1)).getPlayerSeasonStatsByClubId(clubId, seasonId, false);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDに紐づく選手のシーズン成績を試合ごとの成績を含めて取得できること")
+  void getPlayerSeasonStatsByClubIdWithGames() throws Exception {
+    int clubId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId)
+            .param("include", "games"))
+        .andExpect(status().isOk());
+    verify(service, times(1)).getPlayerSeasonStatsByClubId(clubId, seasonId, true);
   }
 
   @ParameterizedTest
@@ -277,7 +352,7 @@ class FootballControllerTest {
     int seasonId = 100001;
     mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-season-stats/" + seasonId))
         .andExpect(status().isOk());
-    verify(service, times(1)).getPlayerSeasonStatByPlayerId(playerId, seasonId);
+    verify(service, times(1)).getPlayerSeasonStatByPlayerId(playerId, seasonId, false);
   }
 
   @ParameterizedTest
@@ -298,7 +373,39 @@ class FootballControllerTest {
     int playerId = 1;
     mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-career-stats"))
         .andExpect(status().isOk());
-    verify(service, times(1)).getPlayerSeasonStatsByPlayerId(playerId);
+    verify(service, times(1)).getPlayerSeasonStatsByPlayerId(playerId, false);
+  }
+
+  @Test
+  @DisplayName("選手IDに紐づく選手の通算成績を試合ごとの成績を含めて取得できること")
+  void getPlayerCareerStatsByPlayerIdWithGames() throws Exception {
+    int playerId = 1;
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-career-stats")
+            .param("include", "games"))
+        .andExpect(status().isOk());
+    verify(service, times(1)).getPlayerSeasonStatsByPlayerId(playerId, true);
+  }
+
+  @Test
+  @DisplayName("選手IDに紐づく選手の通算成績を取得する際に同じETagを指定した場合、成績を取得せずに304が返却されること")
+  void getPlayerCareerStatsByPlayerIdWithIfNoneMatch() throws Exception {
+    int playerId = 1;
+    mockMvc.perform(MockMvcRequestBuilders.get("/players/" + playerId + "/player-career-stats")
+            .header("If-None-Match", "\"v1-1\""))
+        .andExpect(status().isNotModified());
+    verify(service, never()).getPlayerSeasonStatsByPlayerId(anyInt(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDに紐づく選手のシーズン成績を取得する際に異なるETagを指定した場合、成績が返却されること")
+  void getPlayerSeasonStatsByClubIdWithStaleETag() throws Exception {
+    int clubId = 1;
+    int seasonId = 100001;
+    mockMvc.perform(MockMvcRequestBuilders.get("/clubs/" + clubId + "/players-season-stats/" + seasonId)
+            .header("If-None-Match", "\"v1-0\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"v1-1\""));
+    verify(service, times(1)).getPlayerSeasonStatsByClubId(clubId, seasonId, false);
   }
 
   @Test
@@ -932,6 +1039,114 @@ class FootballControllerTest {
         });
   }
 
+  @Test
+  @DisplayName("全試合結果をCSVでエクスポートできること")
+  void exportGameResults() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/game-results/export").param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"));
+    verify(exportService, times(1)).exportGameResults(any(OutputStream.class), eq(GameResultExportService.Format.CSV));
+  }
+
+  @Test
+  @DisplayName("全選手成績を既定のNDJSONでエクスポートできること")
+  void exportPlayerGameStats() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/player-game-stats/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+    verify(exportService, times(1)).exportPlayerGameStats(any(OutputStream.class), eq(GameResultExportService.Format.NDJSON));
+  }
+
+  @Test
+  @DisplayName("エクスポートの際に未対応の形式を指定すると400エラーが返却されること")
+  void exportGameResults_withInvalidFormat() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/game-results/export").param("format", "xml"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込みができること")
+  void importGameResults() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/import")
+            .param("chunkSize", "100")
+            .contentType("application/x-ndjson")
+            .content("{}\n"))
+        .andExpect(status().isOk());
+    verify(importService, times(1)).importGameResults(any(InputStream.class), eq(100));
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込みの際にchunkSizeのバリデーションエラーが発生すること")
+  void importGameResults_withInvalidChunkSize() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/game-results/import")
+            .param("chunkSize", "0")
+            .contentType("application/x-ndjson")
+            .content("{}\n"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("シーズン成績の合計が取得できること")
+  void getSeasonSummary() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/seasons/201920/summary"))
+        .andExpect(status().isOk());
+    verify(service, times(1)).getSeasonSummary(201920);
+  }
+
+  @Test
+  @DisplayName("選手ランキングが取得できること_statは大文字・小文字を区別せず、既定の件数と位置で取得されること")
+  void getLeaders() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaders/201920")
+            .param("stat", "Assists"))
+        .andExpect(status().isOk());
+    verify(service, times(1)).getLeaderboard(1, 201920, LeaderStat.ASSISTS, 10, 0);
+  }
+
+  @Test
+  @DisplayName("選手ランキングの取得の際にstatが対象外の場合は400エラーが返ること")
+  void getLeaders_withInvalidStat() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaders/201920")
+            .param("stat", "goals; DROP TABLE players"))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertTrue(result.getResolvedException() instanceof FootballException));
+    verify(service, never()).getLeaderboard(anyInt(), anyInt(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("選手ランキングの取得の際にlimitのバリデーションエラーが発生すること")
+  void getLeaders_withInvalidLimit() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/leagues/1/leaders/201920")
+            .param("limit", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(result -> assertTrue(result.getResolvedException() instanceof ConstraintViolationException));
+  }
+
+  @Test
+  @DisplayName("選手シーズン成績の集計を作り直せること_作り直した件数と差異の件数が返されること")
+  void rebuildPlayerSeasonTotals() throws Exception {
+    when(service.rebuildPlayerSeasonTotals(201920)).thenReturn(new PlayerSeasonTotalsReport(30, 1));
+    mockMvc.perform(MockMvcRequestBuilders.post("/player-season-totals/rebuild")
+            .param("seasonId", "201920"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("{\"rebuilt\": 30, \"mismatched\": 1}"));
+    verify(service, times(1)).rebuildPlayerSeasonTotals(201920);
+  }
+
+  @Test
+  @DisplayName("選手シーズン成績の集計の作り直しの際にシーズンIDのバリデーションエラーが発生すること")
+  void rebuildPlayerSeasonTotals_withInvalidSeasonId() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.post("/player-season-totals/rebuild")
+            .param("seasonId", "99999"))
+        .andExpect(status().isBadRequest());
+    verify(service, never()).rebuildPlayerSeasonTotals(any());
+  }
+
   @Test
   @DisplayName("シーズンの登録ができること")
   void registerSeason() throws Exception {
@@ -0,0 +1,45 @@
+package football.StatsManagement.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * テストで実行されたクエリ数の上限を確認する（N+1 の検知用）
+ * クエリは QueryMetricsInterceptor で数えるため、アプリケーション全体を起動するテスト（@SpringBootTest）で使用する
+ */
+public final class QueryCountAssertions {
+
+  private QueryCountAssertions() {
+  }
+
+  @FunctionalInterface
+  public interface Action {
+    void run() throws Exception;
+  }
+
+  /**
+   * 処理の中で実行されたクエリ数を数える（MockMvc によるリクエストも同じスレッドで実行されるため数えられる）
+   * @param action
+   * @return クエリ数
+   * @throws Exception
+   */
+  public static int countQueries(Action action) throws Exception {
+    QueryCounter.start();
+    try {
+      action.run();
+      return QueryCounter.current();
+    } finally {
+      QueryCounter.stop();
+    }
+  }
+
+  /**
+   * 処理の中で実行されたクエリ数が上限以下であることを確認する
+   * @param max 上限
+   * @param action
+   * @throws Exception
+   */
+  public static void assertMaxQueries(int max, Action action) throws Exception {
+    int count = countQueries(action);
+    assertTrue(count <= max, () -> "Expected at most " + max + " queries but " + count + " were executed");
+  }
+}
@@ -0,0 +1,88 @@
+package football.StatsManagement.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.util.List;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryMetricsInterceptorTest {
+
+  @Mock
+  private Executor executor;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final QueryMetricsInterceptor sut = new QueryMetricsInterceptor(registry);
+
+  @AfterEach
+  void tearDown() {
+    QueryCounter.stop();
+  }
+
+  @Test
+  @DisplayName("SELECTの実行時間と取得件数がメソッド名ごとに記録され、数えているスレッドのクエリ数が加算されること")
+  void intercept_withSelect() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement("selectClubs", SqlCommandType.SELECT);
+    when(executor.query(any(), any(), any(), any())).thenReturn(List.of("a", "b", "c"));
+    QueryCounter.start();
+
+    sut.intercept(query(mappedStatement));
+    sut.intercept(query(mappedStatement));
+
+    assertEquals(2, registry.get("football.repository").tag("statement", "selectClubs").tag("type", "SELECT").timer().count());
+    assertEquals(6, registry.get("football.repository.rows").tag("statement", "selectClubs").summary().totalAmount());
+    assertEquals(2, QueryCounter.stop());
+  }
+
+  @Test
+  @DisplayName("例外が発生した場合も例外の種類とともに実行時間が記録されること")
+  void intercept_withException() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement("selectClubs", SqlCommandType.SELECT);
+    when(executor.query(any(), any(), any(), any())).thenThrow(new SQLException("error"));
+
+    assertThrows(Exception.class, () -> sut.intercept(query(mappedStatement)));
+
+    assertEquals(1, registry.get("football.repository").tag("exception", "SQLException").timer().count());
+  }
+
+  @Test
+  @DisplayName("数え始めていないスレッドではクエリ数が加算されないこと")
+  void intercept_withoutCounting() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement("selectClubs", SqlCommandType.SELECT);
+    when(executor.query(any(), any(), any(), any())).thenReturn(List.of());
+
+    sut.intercept(query(mappedStatement));
+
+    assertEquals(0, QueryCounter.current());
+  }
+
+  private MappedStatement mappedStatement(String name, SqlCommandType type) {
+    Configuration configuration = new Configuration();
+    return new MappedStatement.Builder(configuration, "football.StatsManagement.repository.FootballRepository." + name,
+        parameterObject -> null, type).build();
+  }
+
+  private Invocation query(MappedStatement mappedStatement) throws NoSuchMethodException {
+    return new Invocation(executor,
+        Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+        new Object[] {mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+  }
+}
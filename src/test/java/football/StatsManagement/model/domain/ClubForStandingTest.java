@@ -45,78 +45,26 @@ class ClubForStandingTest {
   }
 
   @Test
-  @DisplayName("クラブ間の勝ち点を取得できること")
-  void getPointsAgainst() {
+  @DisplayName("リーグの全試合結果から全クラブの順位用成績を一括で初期化できること")
+  void initialClubForStandings() {
     // Arrange
-    Club club = new Club(1, 1, "Sample Club");
-    List<GameResult> gameResults = List.of(
-        new GameResult(1, 1, 2, 1, 1, null, 1, LocalDate.now(), 1),
-        new GameResult(2, 2, 1, 1, 0, 2   , 1, LocalDate.now(), 1),
-        new GameResult(3, 1, 3, 2, 0, 1   , 1, LocalDate.now(), 1),
-        new GameResult(4, 1, 2, 2, 0, 1   , 1, LocalDate.now(), 1),
-        new GameResult(5, 2, 1, 1, 3, 1   , 1, LocalDate.now(), 1)
-    );
-    ClubForStanding clubForStanding = new ClubForStanding(gameResults, club, 5, 3, 1, 1, 10, 8, 3, 5);
+    Club club1 = new Club(1, 1, "Club 1");
+    Club club2 = new Club(2, 1, "Club 2");
+    Club club3 = new Club(3, 1, "Club 3");
+    GameResult gameResult1 = new GameResult(1, 1, 2, 1, 1, null, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 3, 0, 2, 3   , 1, LocalDate.now(), 1);
+    GameResult gameResult3 = new GameResult(3, 3, 1, 1, 3, 1   , 1, LocalDate.now(), 1);
+    // リーグ外のクラブとの試合は該当クラブのみに集計される
+    GameResult gameResult4 = new GameResult(4, 2, 9, 2, 0, 2   , 1, LocalDate.now(), 1);
+    List<GameResult> gameResults = List.of(gameResult1, gameResult2, gameResult3, gameResult4);
     // Act
-    int actual = clubForStanding.getPointsAgainst(2);
+    List<ClubForStanding> actual = ClubForStanding.initialClubForStandings(List.of(club1, club2, club3), gameResults);
     // Assert
-    assertEquals(7, actual);
-  }
-
-  @Test
-  @DisplayName("クラブ間の得失点差を取得できること")
-  void getGoalDifferencesAgainst() {
-    // Arrange
-    Club club = new Club(1, 1, "Sample Club");
-    List<GameResult> gameResults = List.of(
-        new GameResult(1, 1, 2, 1, 1, 0, 1, LocalDate.now(), 1),
-        new GameResult(2, 2, 1, 1, 0, 2, 1, LocalDate.now(), 1),
-        new GameResult(3, 1, 3, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(4, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(5, 2, 1, 1, 3, 1, 1, LocalDate.now(), 1)
+    List<ClubForStanding> expected = List.of(
+        new ClubForStanding(List.of(gameResult1, gameResult3), club1, 2, 1, 1, 0, 4, 4, 2, 2),
+        new ClubForStanding(List.of(gameResult1, gameResult2, gameResult4), club2, 3, 1, 1, 1, 4, 3, 3, 0),
+        new ClubForStanding(List.of(gameResult2, gameResult3), club3, 2, 1, 0, 1, 3, 3, 3, 0)
     );
-    ClubForStanding clubForStanding = new ClubForStanding(gameResults, club, 5, 3, 1, 1, 10, 8, 3, 5);
-    // Act
-    int actual = clubForStanding.getGoalDifferencesAgainst(2);
-    // Assert
-    assertEquals(3, actual);
-  }
-
-  @Test
-  @DisplayName("クラブ間のアウェーゴールを取得できること")
-  void getAwayGoalsAgainst() {
-    // Arrange
-    Club club = new Club(1, 1, "Sample Club");
-    List<GameResult> gameResults = List.of(
-        new GameResult(1, 1, 2, 1, 1, 0, 1, LocalDate.now(), 1),
-        new GameResult(2, 2, 1, 1, 0, 2, 1, LocalDate.now(), 1),
-        new GameResult(3, 1, 3, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(4, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(5, 2, 1, 1, 3, 1, 1, LocalDate.now(), 1)
-    );
-    ClubForStanding clubForStanding = new ClubForStanding(gameResults, club, 5, 3, 1, 1, 10, 8, 3, 5);
-    // Act
-    int actual = clubForStanding.getAwayGoalsAgainst(2);
-    // Assert
-    assertEquals(3, actual);
-  }
-
-  @Test
-  @DisplayName("クラブ間の試合数を取得できること")
-  void getGamesAgainst() {
-    // Arrange
-    Club club = new Club(1, 1, "Sample Club");
-    List<GameResult> gameResults = List.of(
-        new GameResult(1, 1, 2, 1, 1, 0, 1, LocalDate.now(), 1),
-        new GameResult(2, 2, 1, 1, 0, 2, 1, LocalDate.now(), 1),
-        new GameResult(3, 1, 3, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(4, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1),
-        new GameResult(5, 2, 1, 1, 3, 1, 1, LocalDate.now(), 1)
-    );
-    ClubForStanding clubForStanding = new ClubForStanding(gameResults, club, 5, 3, 1, 1, 10, 8, 3, 5);
-    // Act
-    int actual = clubForStanding.getGamesAgainst(2);
-    // Assert
-    assertEquals(4, actual);
+    assertEquals(expected, actual);
   }
-}
\ No newline at end of file
+}
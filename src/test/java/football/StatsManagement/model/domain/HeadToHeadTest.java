@@ -0,0 +1,46 @@
+package football.StatsManagement.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeadToHeadTest {
+
+  @Test
+  @DisplayName("当該チーム間の勝ち点・得失点差・アウェーゴール・試合数を双方のクラブから見て取得できること")
+  void of() {
+    // Arrange
+    Club club1 = new Club(1, 1, "Club 1");
+    Club club2 = new Club(2, 1, "Club 2");
+    List<GameResult> gameResults = List.of(
+        new GameResult(1, 1, 2, 1, 1, null, 1, LocalDate.now(), 1),
+        new GameResult(2, 2, 1, 1, 0, 2   , 1, LocalDate.now(), 1),
+        new GameResult(3, 1, 3, 2, 0, 1   , 1, LocalDate.now(), 1),
+        new GameResult(4, 1, 2, 2, 0, 1   , 1, LocalDate.now(), 1),
+        new GameResult(5, 2, 1, 1, 3, 1   , 1, LocalDate.now(), 1)
+    );
+    List<ClubForStanding> clubForStandings = ClubForStanding.initialClubForStandings(List.of(club1, club2), gameResults);
+
+    // Act
+    HeadToHead actual = HeadToHead.of(clubForStandings);
+    int s1 = actual.slotOf(1);
+    int s2 = actual.slotOf(2);
+
+    // Assert
+    assertEquals(7, actual.getPoints(s1, s2));
+    assertEquals(4, actual.getPoints(s2, s1));
+    assertEquals(3, actual.getGoalDifferences(s1, s2));
+    assertEquals(-3, actual.getGoalDifferences(s2, s1));
+    assertEquals(3, actual.getAwayGoals(s1, s2));
+    assertEquals(1, actual.getAwayGoals(s2, s1));
+    assertEquals(4, actual.getGames(s1, s2));
+    assertEquals(4, actual.getGames(s2, s1));
+    // リーグ外のクラブ（ID:3）との試合は含まれない
+    assertEquals(2, actual.size());
+  }
+}
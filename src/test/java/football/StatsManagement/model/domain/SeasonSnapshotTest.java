@@ -0,0 +1,84 @@
+package football.StatsManagement.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.Player;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.domain.SeasonSnapshot.Column;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeasonSnapshotTest {
+
+  @Test
+  @DisplayName("選手試合成績から作成したスナップショットの合計・選手ごと・クラブごとの集計が適切であること")
+  void build() {
+    // Arrange（選手30はシーズン中にクラブ1からクラブ2に移籍）
+    SeasonSnapshot.Builder builder = SeasonSnapshot.builder(201920);
+    builder.add(new PlayerGameStat(1, 30, 1, 9, true, 2, 0, 90, 1, 0, 1));
+    builder.add(new PlayerGameStat(2, 10, 1, 10, true, 0, 1, 80, 0, 0, 1));
+    builder.add(new PlayerGameStat(3, 20, 2, 7, false, 1, 0, 10, 0, 1, 1));
+    builder.add(new PlayerGameStat(4, 30, 2, 9, true, 1, 1, 90, 1, 0, 2));
+
+    // Act
+    SeasonSnapshot actual = builder.build(
+        List.of(new Player(10, 1, "Player 10", 10), new Player(20, 2, "Player 20", 7), new Player(30, 2, "Player 30", 9)),
+        List.of(new Club(1, 1, "Club 1"), new Club(2, 1, "Club 2"), new Club(3, 1, "Club 3")));
+
+    // Assert
+    assertEquals(201920, actual.seasonId());
+    assertEquals(4, actual.rows());
+    assertEquals(2, actual.games());
+    assertEquals(3, actual.playerCount());
+    assertEquals(2, actual.clubCount());
+    assertEquals(4, actual.sum(Column.GOALS));
+    assertEquals(270, actual.sum(Column.MINUTES));
+    assertEquals(1, actual.sum(Column.RED_CARDS));
+
+    int player30 = actual.playerCode(30);
+    assertEquals(30, actual.playerId(player30));
+    assertEquals("Player 30", actual.playerName(player30));
+    assertEquals(3, actual.sumByPlayer(Column.GOALS)[player30]);
+    assertEquals(2, actual.sumByPlayer(Column.YELLOW_CARDS)[player30]);
+    assertEquals(2, actual.gamesByPlayer()[player30]);
+    assertEquals(-1, actual.playerCode(99));
+
+    int[] clubGoals = actual.sumByClub(Column.GOALS);
+    assertEquals(1, actual.clubId(0));
+    assertEquals("Club 1", actual.clubName(0));
+    assertEquals(2, clubGoals[0]);
+    assertEquals(2, clubGoals[1]);
+  }
+
+  @Test
+  @DisplayName("初期容量を超える件数を追加しても全件が保持されること")
+  void build_withManyRows() {
+    SeasonSnapshot.Builder builder = SeasonSnapshot.builder(201920);
+    for (int i = 0; i < 5000; i++) {
+      builder.add(new PlayerGameStat(i + 1, i % 25 + 1, i % 25 / 15 + 1, 1, true, i % 2, 0, 90, 0, 0, i / 25 + 1));
+    }
+
+    SeasonSnapshot actual = builder.build(List.of(), List.of());
+
+    assertEquals(5000, actual.rows());
+    assertEquals(200, actual.games());
+    assertEquals(25, actual.playerCount());
+    assertEquals(2500, actual.sum(Column.GOALS));
+    assertEquals(450000, actual.sum(Column.MINUTES));
+    assertArrayEquals(new int[]{200 * 15 * 90, 200 * 10 * 90}, actual.sumByClub(Column.MINUTES));
+    assertNull(actual.playerName(0));
+  }
+
+  @Test
+  @DisplayName("選手試合成績がない場合は全ての集計が0件であること")
+  void build_withNoRows() {
+    SeasonSnapshot actual = SeasonSnapshot.builder(201920).build(List.of(), List.of());
+
+    assertEquals(0, actual.rows());
+    assertEquals(0, actual.games());
+    assertEquals(0, actual.sum(Column.GOALS));
+    assertEquals(0, actual.sumByPlayer(Column.GOALS).length);
+  }
+}
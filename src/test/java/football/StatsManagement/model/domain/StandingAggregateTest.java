@@ -0,0 +1,64 @@
+package football.StatsManagement.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StandingAggregateTest {
+
+  private final Club club1 = new Club(1, 1, "Club 1");
+  private final Club club2 = new Club(2, 1, "Club 2");
+  private final Club club3 = new Club(3, 1, "Club 3");
+
+  @Test
+  @DisplayName("差分を反映した集計が、全試合結果から作り直した集計と一致すること")
+  void apply() {
+    GameResult gameResult1 = new GameResult(1, 1, 2, 1, 1, null, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 3, 0, 2, 3   , 1, LocalDate.now(), 1);
+    GameResult gameResult3 = new GameResult(3, 3, 1, 1, 3, 1   , 1, LocalDate.now(), 1);
+    StandingAggregate aggregate = StandingAggregate.of(List.of(club1, club2, club3), List.of(gameResult1));
+
+    assertTrue(aggregate.apply(gameResult2));
+    assertTrue(aggregate.apply(gameResult3));
+
+    List<ClubForStanding> expected = StandingAggregate.of(List.of(club1, club2, club3),
+        List.of(gameResult1, gameResult2, gameResult3)).toClubForStandings();
+    assertEquals(expected, aggregate.toClubForStandings());
+  }
+
+  @Test
+  @DisplayName("反映済みの試合結果は二重に反映されないこと")
+  void apply_withAppliedGameResult() {
+    GameResult gameResult = new GameResult(1, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1);
+    StandingAggregate aggregate = StandingAggregate.of(List.of(club1, club2), List.of(gameResult));
+
+    assertFalse(aggregate.apply(gameResult));
+
+    List<ClubForStanding> expected = List.of(
+        new ClubForStanding(List.of(gameResult), club1, 1, 1, 0, 0, 3, 2, 0, 2),
+        new ClubForStanding(List.of(gameResult), club2, 1, 0, 0, 1, 0, 0, 2, -2)
+    );
+    assertEquals(expected, aggregate.toClubForStandings());
+  }
+
+  @Test
+  @DisplayName("参照時に渡した成績が、その後の差分の反映や順位の設定の影響を受けないこと")
+  void toClubForStandings() {
+    GameResult gameResult1 = new GameResult(1, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 1, 3, 0, 2, 1, LocalDate.now(), 1);
+    StandingAggregate aggregate = StandingAggregate.of(List.of(club1, club2), List.of(gameResult1));
+    List<ClubForStanding> before = aggregate.toClubForStandings();
+    before.get(0).setPosition(1);
+
+    aggregate.apply(gameResult2);
+
+    assertEquals(List.of(gameResult1), before.get(0).getGameResults());
+    assertEquals(1, before.get(0).getGamesPlayed());
+    assertEquals(0, aggregate.toClubForStandings().get(0).getPosition());
+  }
+}
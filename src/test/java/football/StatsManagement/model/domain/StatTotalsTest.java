@@ -0,0 +1,57 @@
+package football.StatsManagement.model.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.data.PlayerGameStat;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StatTotalsTest {
+
+  private final List<PlayerGameStat> playerGameStats = List.of(
+      new PlayerGameStat(1, 1, 1, 9, true, 2, 0, 90, 1, 0, 1),
+      new PlayerGameStat(2, 1, 1, 9, false, 0, 1, 20, 0, 0, 2),
+      new PlayerGameStat(3, 1, 2, 9, true, 1, 1, 90, 1, 1, 3)
+  );
+
+  @Test
+  @DisplayName("全ての選手試合成績の合計が適切であること")
+  void of() {
+    StatTotals actual = StatTotals.of(playerGameStats);
+
+    assertEquals(3, actual.getGames());
+    assertEquals(2, actual.getStarterGames());
+    assertEquals(1, actual.getSubstituteGames());
+    assertEquals(3, actual.getGoals());
+    assertEquals(2, actual.getAssists());
+    assertEquals(200, actual.getMinutes());
+    assertEquals(2, actual.getYellowCards());
+    assertEquals(1, actual.getRedCards());
+  }
+
+  @Test
+  @DisplayName("クラブIDに一致する選手試合成績のみが合計されること")
+  void ofClub() {
+    StatTotals actual = StatTotals.ofClub(playerGameStats, 1);
+
+    assertEquals(2, actual.getGames());
+    assertEquals(1, actual.getStarterGames());
+    assertEquals(1, actual.getSubstituteGames());
+    assertEquals(2, actual.getGoals());
+    assertEquals(1, actual.getAssists());
+    assertEquals(110, actual.getMinutes());
+    assertEquals(1, actual.getYellowCards());
+    assertEquals(0, actual.getRedCards());
+  }
+
+  @Test
+  @DisplayName("選手試合成績がない場合は全ての項目が0であること")
+  void of_withNoStats() {
+    StatTotals actual = StatTotals.of(List.of());
+
+    assertEquals(0, actual.getGames());
+    assertEquals(0, actual.getSubstituteGames());
+    assertEquals(0, actual.getMinutes());
+  }
+}
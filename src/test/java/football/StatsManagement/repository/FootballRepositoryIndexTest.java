@@ -0,0 +1,81 @@
+package football.StatsManagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * よく使う検索がインデックスを使っているかを実行計画（EXPLAIN）で確認する
+ */
+@MybatisTest
+class FootballRepositoryIndexTest {
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  @DisplayName("マイグレーションで追加したインデックスがテスト用のスキーマにも存在すること")
+  void indexesInMigrationExistInSchema() throws IOException {
+    String migration = new ClassPathResource("db/migration/V2__add_indexes.sql").getContentAsString(StandardCharsets.UTF_8);
+    Matcher matcher = Pattern.compile("CREATE INDEX (\\w+) ON").matcher(migration);
+    List<String> expected = new ArrayList<>();
+    while (matcher.find()) {
+      expected.add(matcher.group(1).toUpperCase());
+    }
+
+    List<String> actual = new JdbcTemplate(dataSource)
+        .queryForList("SELECT UPPER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+    assertThat(expected).isNotEmpty();
+    assertThat(actual).containsAll(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDによる試合結果の検索で、ホーム・アウェーそれぞれの複合インデックスが使われること")
+  void selectGameResultsByClubAndSeason_usesIndexes() {
+    String plan = explain("selectGameResultsByClubAndSeason", Map.of("seasonId", 201920, "clubId", 1));
+
+    assertThat(plan).contains("IDX_GAME_RESULTS_SEASON_HOME_CLUB", "IDX_GAME_RESULTS_SEASON_AWAY_CLUB");
+    assertThat(plan).doesNotContain("TABLESCAN");
+  }
+
+  @Test
+  @DisplayName("選手IDとシーズンIDによる試合成績の検索で、テーブルの全件走査が行われないこと")
+  void selectPlayerGameStatsByPlayerAndSeason_usesIndexes() {
+    String plan = explain("selectPlayerGameStatsByPlayerAndSeason", Map.of("playerId", 1, "seasonId", 201920));
+
+    assertThat(plan).doesNotContain("TABLESCAN");
+  }
+
+  // マッパーに定義したSQLをそのまま使って実行計画を取得する（大文字に揃えて返す）
+  private String explain(String statementId, Map<String, Object> params) {
+    BoundSql boundSql = sqlSessionFactory.getConfiguration()
+        .getMappedStatement(FootballRepository.class.getName() + "." + statementId)
+        .getBoundSql(params);
+    Object[] args = boundSql.getParameterMappings().stream()
+        .map(ParameterMapping::getProperty)
+        .map(params::get)
+        .toArray();
+    return String.join("\n", new JdbcTemplate(dataSource).queryForList("EXPLAIN " + boundSql.getSql(), String.class, args))
+        .toUpperCase();
+  }
+}
@@ -9,7 +9,11 @@ import football.StatsManagement.model.data.GameResult;
 import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.PlayerSeasonTotal;
 import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.PlayerSeasonStat;
 import football.StatsManagement.model.domain.json.ClubForJson;
 import football.StatsManagement.model.domain.json.GameResultForJson;
 import football.StatsManagement.model.domain.json.LeagueForJson;
@@ -17,8 +21,11 @@ import football.StatsManagement.model.domain.json.PlayerForJson;
 import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
 import football.StatsManagement.model.domain.json.SeasonForJson;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
@@ -88,6 +95,27 @@ class FootballRepositoryTest {
     assertEquals(beforeCount + 1, afterCount);
   }
 
+  @Test
+  @DisplayName("複数の選手試合成績を1回で挿入できること_件数が増え、採番されたIDが設定されていること")
+  void insertPlayerGameStats() {
+    List<PlayerGameStat> playerGameStats = List.of(
+        new PlayerGameStat(new PlayerGameStatForJson(1, true, 1, 0, 90, 0, 0)),
+        new PlayerGameStat(new PlayerGameStatForJson(2, false, 0, 1, 30, 1, 0))
+    );
+    playerGameStats.get(0).setPlayerInfo(1, 1);
+    playerGameStats.get(1).setPlayerInfo(1, 2);
+    playerGameStats.forEach(playerGameStat -> playerGameStat.setGameId(1));
+    int beforeCount = sut.selectPlayerGameStats().size();
+
+    sut.insertPlayerGameStats(playerGameStats);
+
+    assertEquals(beforeCount + 2, sut.selectPlayerGameStats().size());
+    for (PlayerGameStat playerGameStat : playerGameStats) {
+      assertNotEquals(0, playerGameStat.getId());
+      assertEquals(Optional.of(playerGameStat), sut.selectPlayerGameStat(playerGameStat.getId()));
+    }
+  }
+
   @Test
   @DisplayName("試合結果を挿入できること_挿入前後で件数が1件増えていること")
   void insertGameResult() {
@@ -137,6 +165,17 @@ class FootballRepositoryTest {
     assertEquals(expectedOptional, actual);
   }
 
+  @Test
+  @DisplayName("複数のIDを指定してクラブを検索できること_件数と情報が適切であること")
+  void selectClubsByIds() {
+    List<Club> actual = sut.selectClubsByIds(List.of(2, 3, 999));
+    List<Club> expected = List.of(
+        new Club(2, 1, "ClubAAB"),
+        new Club(3, 2, "ClubABA")
+    );
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   @DisplayName("IDを指定して選手を検索できること_情報が適切であること")
   void selectPlayer() {
@@ -146,6 +185,17 @@ class FootballRepositoryTest {
     assertEquals(expectedOptional, actual);
   }
 
+  @Test
+  @DisplayName("複数のIDを指定して選手を検索できること_件数と情報が適切であること")
+  void selectPlayersByIds() {
+    List<Player> actual = sut.selectPlayersByIds(List.of(1, 3, 999));
+    List<Player> expected = List.of(
+        new Player(1, 1, "PlayerAAAA", 1),
+        new Player(3, 2, "PlayerAABA", 1)
+    );
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   @DisplayName("IDを指定して選手試合成績を検索できること_情報が適切であること")
   void selectPlayerGameStat() {
@@ -171,6 +221,19 @@ class FootballRepositoryTest {
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  @DisplayName("リーグIDとシーズンIDを指定して試合結果を検索できること_件数と情報が適切であること")
+  void selectGameResultsByLeagueAndSeason() {
+    int leagueId = 1;
+    int seasonId = 201920;
+    List<GameResult> actual = sut.selectGameResultsByLeagueAndSeason(leagueId, seasonId);
+    List<GameResult> expected = List.of(
+        new GameResult(1, 1, 2, 2, 1, 1   , 1, LocalDate.of(2019, 8, 1), 201920),
+        new GameResult(3, 2, 1, 2, 2, null, 1, LocalDate.of(2019, 8, 2), 201920)
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
   @Test
   @DisplayName("IDを指定して試合結果を検索できること_情報が適切であること")
   void selectGameResult() {
@@ -180,6 +243,17 @@ class FootballRepositoryTest {
     assertEquals(expectedOptional, actual);
   }
 
+  @Test
+  @DisplayName("複数のIDを指定して試合結果を検索できること_件数と情報が適切であること")
+  void selectGameResultsByIds() {
+    List<GameResult> actual = sut.selectGameResultsByIds(List.of(1, 3, 999));
+    List<GameResult> expected = List.of(
+        new GameResult(1, 1, 2, 2, 1, 1   , 1, LocalDate.of(2019, 8, 1), 201920),
+        new GameResult(3, 2, 1, 2, 2, null, 1, LocalDate.of(2019, 8, 2), 201920)
+    );
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @Test
   @DisplayName("選手IDを指定して選手試合成績を検索できること_件数と情報が適切であること")
   void selectPlayerGameStatsByPlayer() {
@@ -364,6 +438,22 @@ class FootballRepositoryTest {
 
   }
 
+  @Test
+  @DisplayName("試合結果と選手試合成績をCursorで全件読み込めること_全件検索とID順で一致すること")
+  void selectCursors() throws Exception {
+    List<GameResult> gameResults = new ArrayList<>();
+    try (Cursor<GameResult> cursor = sut.selectGameResultsCursor()) {
+      cursor.forEach(gameResults::add);
+    }
+    List<PlayerGameStat> playerGameStats = new ArrayList<>();
+    try (Cursor<PlayerGameStat> cursor = sut.selectPlayerGameStatsCursor()) {
+      cursor.forEach(playerGameStats::add);
+    }
+
+    assertEquals(sut.selectGameResults().stream().sorted(Comparator.comparingInt(GameResult::getId)).toList(), gameResults);
+    assertEquals(sut.selectPlayerGameStats().stream().sorted(Comparator.comparingInt(PlayerGameStat::getId)).toList(), playerGameStats);
+  }
+
   @Test
   @DisplayName("選手試合成績を全件検索できること_件数と情報が適切であること")
   void selectPlayerGameStats() {
@@ -458,6 +548,139 @@ class FootballRepositoryTest {
     assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
   }
 
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定してクラブ所属選手の選手試合成績を検索できること_件数と情報が適切であること")
+  void selectPlayerGameStatsByClubPlayersAndSeason() {
+    List<PlayerGameStat> actual = sut.selectPlayerGameStatsByClubPlayersAndSeason(1, 201920);
+    List<PlayerGameStat> expected = List.of(
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(2, 2, 1, 2, false, 0, 1, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(9, 1, 1, 1, true, 0, 0, 90, 0, 0, 3, null, null, null),
+        new PlayerGameStat(10, 2, 1, 2, true, 0, 0, 90, 0, 0, 3, null, null, null)
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定してクラブ所属選手の選手試合成績を検索できること_移籍前のクラブでの試合も含まれること")
+  void selectPlayerGameStatsByClubPlayersAndSeason_afterTransfer() {
+    sut.updatePlayerClubAndNumber(3, 1, 3);
+    List<PlayerGameStat> actual = sut.selectPlayerGameStatsByClubPlayersAndSeason(1, 201920);
+    List<PlayerGameStat> expected = List.of(
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(2, 2, 1, 2, false, 0, 1, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(3, 3, 2, 1, true, 0, 0, 90, 0, 0, 1, null, null, null),
+        new PlayerGameStat(9, 1, 1, 1, true, 0, 0, 90, 0, 0, 3, null, null, null),
+        new PlayerGameStat(10, 2, 1, 2, true, 0, 0, 90, 0, 0, 3, null, null, null),
+        new PlayerGameStat(11, 3, 2, 1, true, 0, 0, 90, 0, 0, 3, null, null, null)
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("クラブIDとシーズンIDを指定して選手シーズン成績を集計できること_件数と情報が適切であること")
+  void selectPlayerSeasonStatsByClub() {
+    List<PlayerSeasonStat> actual = sut.selectPlayerSeasonStatsByClub(1, 201920);
+    List<PlayerSeasonStat> expected = List.of(
+        new PlayerSeasonStat(1, 201920, 1, 2, 2, 0, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20"),
+        new PlayerSeasonStat(2, 201920, 1, 2, 1, 1, 0, 1, 180, 0, 0, "PlayerAAAB", "ClubAAA", "2019-20")
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+    assertNull(actual.get(0).playerGameStats());
+  }
+
+  @Test
+  @DisplayName("出場のない選手も0件の成績として集計されること")
+  void selectPlayerSeasonStatsByClub_withNoGames() {
+    List<PlayerSeasonStat> actual = sut.selectPlayerSeasonStatsByClub(9, 201920);
+    assertThat(actual).hasSize(15);
+    assertThat(actual).allMatch(playerSeasonStat -> playerSeasonStat.games() == 0 && playerSeasonStat.minutes() == 0);
+  }
+
+  @Test
+  @DisplayName("選手IDを指定して通算成績をシーズン・クラブごとに集計できること_件数と情報が適切であること")
+  void selectPlayerSeasonStatsByPlayer() {
+    List<PlayerSeasonStat> actual = sut.selectPlayerSeasonStatsByPlayer(1, null);
+    List<PlayerSeasonStat> expected = List.of(
+        new PlayerSeasonStat(1, 201920, 1, 2, 2, 0, 1, 0, 180, 0, 0, "PlayerAAAA", "ClubAAA", "2019-20"),
+        new PlayerSeasonStat(1, 202021, 1, 1, 0, 1, 0, 0, 90, 0, 0, "PlayerAAAA", "ClubAAA", "2020-21")
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手IDとシーズンIDを指定してシーズン成績を集計できること_件数と情報が適切であること")
+  void selectPlayerSeasonStatsByPlayer_withSeason() {
+    List<PlayerSeasonStat> actual = sut.selectPlayerSeasonStatsByPlayer(1, 202021);
+    List<PlayerSeasonStat> expected = List.of(
+        new PlayerSeasonStat(1, 202021, 1, 1, 0, 1, 0, 0, 90, 0, 0, "PlayerAAAA", "ClubAAA", "2020-21")
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手シーズン成績の集計を加算できること_既存の集計には加算され、ない集計は挿入されること")
+  void upsertPlayerSeasonTotals() {
+    PlayerSeasonTotal before = sut.selectPlayerSeasonTotals(201920).stream()
+        .filter(total -> total.playerId() == 1 && total.clubId() == 1)
+        .findFirst().orElseThrow();
+
+    sut.upsertPlayerSeasonTotals(List.of(
+        new PlayerSeasonTotal(1, 1, 201920, 1, 0, 2, 1, 30, 1, 0, Integer.MAX_VALUE),
+        new PlayerSeasonTotal(17, 9, 201920, 1, 1, 0, 0, 90, 0, 1, 1000)
+    ));
+
+    List<PlayerSeasonTotal> actual = sut.selectPlayerSeasonTotals(201920);
+    assertThat(actual).contains(
+        new PlayerSeasonTotal(1, 1, 201920, before.games() + 1, before.starterGames(), before.goals() + 2, before.assists() + 1,
+            before.minutes() + 30, before.yellowCards() + 1, before.redCards(), before.firstStatId()),
+        new PlayerSeasonTotal(17, 9, 201920, 1, 1, 0, 0, 90, 0, 1, 1000)
+    );
+  }
+
+  @Test
+  @DisplayName("シーズンを指定して選手シーズン成績の集計を作り直せること_作り直す前と同じ集計になり、他のシーズンは変わらないこと")
+  void rebuildPlayerSeasonTotals() {
+    List<PlayerSeasonTotal> before = sut.selectPlayerSeasonTotals(201920);
+    List<PlayerSeasonTotal> otherSeason = sut.selectPlayerSeasonTotals(202021);
+
+    assertEquals(before.size(), sut.deletePlayerSeasonTotals(201920));
+    assertThat(sut.selectPlayerSeasonTotals(201920)).isEmpty();
+    assertEquals(before.size(), sut.insertPlayerSeasonTotalsFromPlayerGameStats(201920));
+
+    assertThat(sut.selectPlayerSeasonTotals(201920)).containsExactlyElementsOf(before);
+    assertThat(sut.selectPlayerSeasonTotals(202021)).containsExactlyElementsOf(otherSeason);
+  }
+
+  @Test
+  @DisplayName("シーズンIDを指定して選手試合成績を1件ずつ取得できること_件数と順序が適切であること")
+  void selectPlayerGameStatsBySeason() {
+    List<PlayerGameStat> actual = new ArrayList<>();
+    sut.selectPlayerGameStatsBySeason(201920, context -> actual.add(context.getResultObject()));
+    assertThat(actual).hasSize(12);
+    assertThat(actual).isSortedAccordingTo(Comparator.comparingInt(PlayerGameStat::getGameId).thenComparingInt(PlayerGameStat::getId));
+    assertThat(actual).extracting(PlayerGameStat::getGameId).containsOnly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("リーグIDとシーズンIDを指定して選手ランキングを取得できること_同値は同順位で、出場時間・選手IDの順に並ぶこと")
+  void selectLeaders() {
+    List<Leaderboard.Leader> actual = sut.selectLeaders(1, 201920, LeaderStat.MINUTES, 3, 1);
+    List<Leaderboard.Leader> expected = List.of(
+        new Leaderboard.Leader(1, 2, "PlayerAAAB", 1, "ClubAAA", 180, 2, 180),
+        new Leaderboard.Leader(1, 3, "PlayerAABA", 2, "ClubAAB", 180, 2, 180),
+        new Leaderboard.Leader(1, 4, "PlayerAABB", 2, "ClubAAB", 180, 2, 180)
+    );
+    assertThat(actual).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @DisplayName("選手ランキングには値が0の選手と他のリーグのクラブの選手が含まれないこと")
+  void selectLeaders_withGoals() {
+    List<Leaderboard.Leader> actual = sut.selectLeaders(1, 201920, LeaderStat.GOALS, 10, 0);
+    assertThat(actual).containsExactly(new Leaderboard.Leader(1, 1, "PlayerAAAA", 1, "ClubAAA", 1, 2, 180));
+  }
+
   @Test
   @DisplayName("現在のシーズンを検索できること_情報が適切であること")
   void selectCurrentSeason() {
@@ -1,9 +1,20 @@
 package football.StatsManagement.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,8 +28,15 @@ import football.StatsManagement.model.data.GameResult;
 import football.StatsManagement.model.data.League;
 import football.StatsManagement.model.data.Player;
 import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.model.data.PlayerSeasonTotal;
 import football.StatsManagement.model.data.Season;
+import football.StatsManagement.model.domain.ClubForStanding;
 import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.model.domain.LeaderStat;
+import football.StatsManagement.model.domain.Leaderboard;
+import football.StatsManagement.model.domain.PlayerSeasonStat;
+import football.StatsManagement.model.domain.PlayerSeasonTotalsReport;
+import football.StatsManagement.model.domain.SeasonSnapshot;
 import football.StatsManagement.model.domain.json.ClubForJson;
 import football.StatsManagement.model.domain.json.GameResultForJson;
 import football.StatsManagement.model.domain.json.GameResultWithPlayerStatsForJson;
@@ -27,16 +45,20 @@ import football.StatsManagement.model.domain.json.PlayerForJson;
 import football.StatsManagement.model.domain.json.PlayerGameStatForJson;
 import football.StatsManagement.model.domain.json.SeasonForJson;
 import football.StatsManagement.repository.FootballRepository;
+import football.StatsManagement.utils.VersionStamps;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -278,6 +300,20 @@ class FootballServiceTest {
     verify(repository, times(1)).selectClub(1);
   }
 
+  @Test
+  @DisplayName("IDによるクラブの検索_2回目以降はキャッシュから取得され、リーグの更新後は再度リポジトリから取得されること")
+  void getClub_withCache() throws ResourceNotFoundException, ResourceConflictException {
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
+    sut.getClub(1);
+    sut.getClub(1);
+    verify(repository, times(1)).selectClub(1);
+
+    sut.updateClubLeague(1, 2);
+    sut.getClub(1);
+    // updateClubLeague内の取得はキャッシュから、更新後の取得はリポジトリから
+    verify(repository, times(2)).selectClub(1);
+  }
+
   @Test
   @DisplayName("IDによるクラブの検索_IDが存在しない場合に適切に例外処理されること")
   void getClub_withNotFound() {
@@ -355,6 +391,106 @@ class FootballServiceTest {
     verify(repository, times(1)).selectGameResultsByClubAndSeason(1, 1);
   }
 
+  @Test
+  @DisplayName("リーグIDとシーズンIDによる試合結果の検索_リポジトリが適切に処理されること")
+  void getGameResultsByLeagueAndSeason() {
+    List<GameResult> actual = sut.getGameResultsByLeagueAndSeason(1, 1);
+    verify(repository, times(1)).selectGameResultsByLeagueAndSeason(1, 1);
+  }
+
+  @Test
+  @DisplayName("順位表の集計_2回目以降の参照ではリポジトリを使わずに保持している集計が使われること")
+  void getClubForStandings() {
+    Club club1 = new Club(1, 1, "club1");
+    Club club2 = new Club(2, 1, "club2");
+    GameResult gameResult = new GameResult(1, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1);
+    when(repository.selectClubsByLeague(1)).thenReturn(List.of(club1, club2));
+    when(repository.selectGameResultsByLeagueAndSeason(1, 1)).thenReturn(List.of(gameResult));
+
+    sut.getClubForStandings(1, 1);
+    List<ClubForStanding> actual = sut.getClubForStandings(1, 1);
+
+    assertEquals(List.of(
+        new ClubForStanding(List.of(gameResult), club1, 1, 1, 0, 0, 3, 2, 0, 2),
+        new ClubForStanding(List.of(gameResult), club2, 1, 0, 0, 1, 0, 0, 2, -2)
+    ), actual);
+    verify(repository, times(1)).selectClubsByLeague(1);
+    verify(repository, times(1)).selectGameResultsByLeagueAndSeason(1, 1);
+  }
+
+  @Test
+  @DisplayName("順位表の集計_試合結果の登録が差分として反映されること")
+  void getClubForStandings_afterRegisterGameResult() {
+    Club club1 = new Club(1, 1, "club1");
+    Club club2 = new Club(2, 1, "club2");
+    GameResult gameResult1 = new GameResult(1, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 1, 1, 1, null, 1, LocalDate.now(), 1);
+    when(repository.selectClubsByLeague(1)).thenReturn(List.of(club1, club2));
+    when(repository.selectGameResultsByLeagueAndSeason(1, 1)).thenReturn(List.of(gameResult1));
+    sut.getClubForStandings(1, 1);
+
+    sut.registerGameResult(gameResult2);
+    List<ClubForStanding> actual = sut.getClubForStandings(1, 1);
+
+    assertEquals(List.of(
+        new ClubForStanding(List.of(gameResult1, gameResult2), club1, 2, 1, 1, 0, 4, 3, 1, 2),
+        new ClubForStanding(List.of(gameResult1, gameResult2), club2, 2, 0, 1, 1, 1, 1, 3, -2)
+    ), actual);
+    verify(repository, times(1)).selectGameResultsByLeagueAndSeason(1, 1);
+  }
+
+  @Test
+  @DisplayName("順位表の集計_クラブのリーグが変更された場合は集計が作り直されること")
+  void getClubForStandings_afterUpdateClubLeague() throws ResourceNotFoundException, ResourceConflictException {
+    when(repository.selectClubsByLeague(1)).thenReturn(List.of(new Club(1, 1, "club1")));
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "club1")));
+    sut.getClubForStandings(1, 1);
+
+    sut.updateClubLeague(1, 2);
+    sut.getClubForStandings(1, 1);
+
+    verify(repository, times(2)).selectClubsByLeague(1);
+    verify(repository, times(2)).selectGameResultsByLeagueAndSeason(1, 1);
+  }
+
+  @Test
+  @DisplayName("バージョン_試合結果の登録で対象のリーグ・クラブのバージョンのみが進むこと")
+  void getStandingVersion_afterRegisterGameResult() {
+    VersionStamps.Stamp standing = sut.getStandingVersion(1, 1);
+    VersionStamps.Stamp otherStanding = sut.getStandingVersion(2, 1);
+    VersionStamps.Stamp homeClub = sut.getClubSeasonStatsVersion(1, 1);
+    VersionStamps.Stamp otherClub = sut.getClubSeasonStatsVersion(3, 1);
+
+    sut.registerGameResult(new GameResult(1, 1, 2, 2, 0, 1, 1, LocalDate.now(), 1));
+
+    assertNotEquals(standing.etag(), sut.getStandingVersion(1, 1).etag());
+    assertNotEquals(homeClub.etag(), sut.getClubSeasonStatsVersion(1, 1).etag());
+    assertEquals(otherStanding, sut.getStandingVersion(2, 1));
+    assertEquals(otherClub, sut.getClubSeasonStatsVersion(3, 1));
+  }
+
+  @Test
+  @DisplayName("バージョン_クラブのリーグが変更された場合は全てのバージョンが進むこと")
+  void getStandingVersion_afterUpdateClubLeague() throws ResourceNotFoundException, ResourceConflictException {
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "club1")));
+    VersionStamps.Stamp standing = sut.getStandingVersion(3, 1);
+    VersionStamps.Stamp career = sut.getPlayerCareerStatsVersion(1);
+
+    sut.updateClubLeague(1, 2);
+
+    assertNotEquals(standing.etag(), sut.getStandingVersion(3, 1).etag());
+    assertNotEquals(career.etag(), sut.getPlayerCareerStatsVersion(1).etag());
+  }
+
+  @Test
+  @DisplayName("複数IDによる選手の検索_重複を除いて1回のクエリで処理され、空の場合はリポジトリが呼ばれないこと")
+  void getPlayersByIds() {
+    sut.getPlayersByIds(List.of(1, 2, 1));
+    sut.getPlayersByIds(List.of());
+    verify(repository, times(1)).selectPlayersByIds(List.of(1, 2));
+    verify(repository, times(1)).selectPlayersByIds(anyList());
+  }
+
   @Test
   @DisplayName("クラブIDによる選手の検索_リポジトリが適切に処理されること")
   void getPlayersByClub() {
@@ -444,8 +580,11 @@ class FootballServiceTest {
     int clubId = 2;
     int number = 99;
     when(repository.selectPlayer(id)).thenReturn(Optional.of(new Player(id, 1, "sampleName", 1)));
+    VersionStamps.Stamp before = sut.getClubSeasonStatsVersion(clubId, 1);
     sut.updatePlayerClubAndNumber(id, clubId, number);
     verify(repository, times(1)).updatePlayerClubAndNumber(id, clubId, number);
+    // 移籍先クラブの所属選手のシーズン成績のバージョンが進むこと
+    assertNotEquals(before.etag(), sut.getClubSeasonStatsVersion(clubId, 1).etag());
   }
 
   @Test
@@ -496,21 +635,140 @@ class FootballServiceTest {
   }
 
   @Test
-  @DisplayName("クラブIDによる選手試合成績の検索_リポジトリが適切に処理されること")
-  void getPlayerSeasonStatsByClubId() {
-    // 現状テスト項目なし
+  @DisplayName("選手とシーズンによる選手試合成績の検索_試合結果と対戦相手をまとめて取得して設定すること")
+  void getPlayerGameStatsByPlayerAndSeason_withEnrichment() throws ResourceNotFoundException {
+    List<PlayerGameStat> playerGameStats = List.of(
+        new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 90, 0, 0, 1),
+        new PlayerGameStat(2, 1, 1, 1, true, 0, 0, 90, 0, 0, 2),
+        new PlayerGameStat(3, 1, 1, 1, true, 0, 0, 90, 0, 0, 3)
+    );
+    when(repository.selectPlayerGameStatsByPlayerAndSeason(1, 1)).thenReturn(playerGameStats);
+    when(repository.selectGameResultsByIds(List.of(1, 2, 3))).thenReturn(List.of(
+        new GameResult(1, 1, 2, 2, 1, 1   , 1, LocalDate.of(2019, 8, 1), 1),
+        new GameResult(2, 2, 1, 2, 2, null, 1, LocalDate.of(2019, 8, 2), 1),
+        new GameResult(3, 3, 1, 1, 0, 3   , 1, LocalDate.of(2019, 8, 3), 1)
+    ));
+    when(repository.selectClubsByIds(anyList())).thenReturn(List.of(
+        new Club(2, 1, "club2"),
+        new Club(3, 1, "club3")
+    ));
+
+    List<PlayerGameStat> actual = sut.getPlayerGameStatsByPlayerAndSeason(1, 1);
+
+    assertEquals(List.of(LocalDate.of(2019, 8, 1), LocalDate.of(2019, 8, 2), LocalDate.of(2019, 8, 3)),
+        actual.stream().map(PlayerGameStat::getGameDate).toList());
+    assertEquals(List.of("club2", "club2", "club3"), actual.stream().map(PlayerGameStat::getOpponentClubName).toList());
+    assertEquals(List.of("○2-1", "△2-2", "●1-0"), actual.stream().map(PlayerGameStat::getScore).toList());
+    verify(repository, times(1)).selectGameResultsByIds(List.of(1, 2, 3));
+    verify(repository, times(1)).selectClubsByIds(anyList());
+    verify(repository, never()).selectGameResult(anyInt());
+    verify(repository, never()).selectClub(anyInt());
   }
 
   @Test
-  @DisplayName("選手IDによる選手シーズン成績の検索_リポジトリが適切に処理されること")
-  void getPlayerSeasonStatByPlayerId() {
-    // 現状テスト項目なし
+  @DisplayName("クラブIDによる選手シーズン成績の検索_集計クエリと試合成績の一括取得が1回ずつ処理されること")
+  void getPlayerSeasonStatsByClubId() throws ResourceNotFoundException {
+    PlayerSeasonStat playerSeasonStat1 = new PlayerSeasonStat(1, 1, 1, 1, 1, 0, 1, 0, 90, 0, 0, "player1", "club1", "season1");
+    PlayerSeasonStat playerSeasonStat2 = new PlayerSeasonStat(2, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, "player2", "club1", "season1");
+    PlayerGameStat playerGameStat = new PlayerGameStat(1, 1, 1, 1, true, 1, 0, 90, 0, 0, 1);
+    // 移籍前のクラブでの試合
+    PlayerGameStat playerGameStatForOtherClub = new PlayerGameStat(2, 2, 3, 2, true, 0, 0, 90, 0, 0, 2);
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "club1")));
+    when(repository.selectSeason(1)).thenReturn(Optional.of(new Season(1, "season1", LocalDate.now(), LocalDate.now(), true)));
+    when(repository.selectPlayerSeasonStatsByClub(1, 1)).thenReturn(List.of(playerSeasonStat1, playerSeasonStat2));
+    when(repository.selectPlayerGameStatsByClubPlayersAndSeason(1, 1)).thenReturn(List.of(playerGameStat, playerGameStatForOtherClub));
+    when(repository.selectGameResultsByIds(List.of(1, 2))).thenReturn(List.of(
+        new GameResult(1, 1, 2, 1, 0, 1, 1, LocalDate.now(), 1),
+        new GameResult(2, 3, 4, 0, 0, null, 1, LocalDate.now(), 1)));
+    when(repository.selectClubsByIds(List.of(2, 4))).thenReturn(List.of(new Club(2, 1, "club2"), new Club(4, 1, "club4")));
+
+    List<PlayerSeasonStat> actual = sut.getPlayerSeasonStatsByClubId(1, 1);
+
+    assertEquals(List.of(playerSeasonStat1, playerSeasonStat2), actual);
+    assertEquals(List.of(playerGameStat), actual.get(0).playerGameStats());
+    assertEquals(List.of(playerGameStatForOtherClub), actual.get(1).playerGameStats());
+    verify(repository, never()).selectPlayer(anyInt());
   }
 
   @Test
-  @DisplayName("選手IDによる選手試合成績の検索_リポジトリが適切に処理されること")
-  void getPlayerSeasonStatsByPlayerId() {
-    // 現状テスト項目なし
+  @DisplayName("クラブIDによる選手シーズン成績の検索_試合成績を含めない場合は集計クエリのみ処理されること")
+  void getPlayerSeasonStatsByClubId_withoutGames() throws ResourceNotFoundException {
+    PlayerSeasonStat playerSeasonStat = new PlayerSeasonStat(1, 1, 1, 1, 1, 0, 1, 0, 90, 0, 0, "player1", "club1", "season1");
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "club1")));
+    when(repository.selectSeason(1)).thenReturn(Optional.of(new Season(1, "season1", LocalDate.now(), LocalDate.now(), true)));
+    when(repository.selectPlayerSeasonStatsByClub(1, 1)).thenReturn(List.of(playerSeasonStat));
+
+    List<PlayerSeasonStat> actual = sut.getPlayerSeasonStatsByClubId(1, 1, false);
+
+    assertEquals(List.of(playerSeasonStat), actual);
+    verify(repository, never()).selectPlayerGameStatsByClubPlayersAndSeason(anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("クラブIDによる選手シーズン成績の検索_シーズンが存在しない場合に適切に例外処理されること")
+  void getPlayerSeasonStatsByClubId_withNonExistentSeason() {
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "club1")));
+    when(repository.selectSeason(1)).thenReturn(Optional.empty());
+
+    assertThrows(ResourceNotFoundException.class, () -> sut.getPlayerSeasonStatsByClubId(1, 1, false));
+    verify(repository, never()).selectPlayerSeasonStatsByClub(anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("選手IDによる選手シーズン成績の検索_移籍した場合はクラブごとの集計のそれぞれにシーズン中の全ての試合成績が設定されること")
+  void getPlayerSeasonStatByPlayerId() throws ResourceNotFoundException {
+    PlayerSeasonStat playerSeasonStat1 = new PlayerSeasonStat(1, 1, 1, 1, 1, 0, 0, 0, 90, 0, 0, "player1", "club1", "season1");
+    PlayerSeasonStat playerSeasonStat2 = new PlayerSeasonStat(1, 1, 3, 1, 1, 0, 1, 0, 90, 0, 0, "player1", "club3", "season1");
+    PlayerGameStat playerGameStat1 = new PlayerGameStat(1, 1, 1, 1, true, 0, 0, 90, 0, 0, 1);
+    PlayerGameStat playerGameStat2 = new PlayerGameStat(2, 1, 3, 1, true, 1, 0, 90, 0, 0, 2);
+    when(repository.selectPlayerSeasonStatsByPlayer(1, 1)).thenReturn(List.of(playerSeasonStat1, playerSeasonStat2));
+    when(repository.selectPlayerGameStatsByPlayerAndSeason(1, 1)).thenReturn(List.of(playerGameStat1, playerGameStat2));
+    when(repository.selectGameResultsByIds(List.of(1, 2))).thenReturn(List.of(
+        new GameResult(1, 1, 2, 0, 0, null, 1, LocalDate.now(), 1),
+        new GameResult(2, 3, 2, 1, 0, 3, 1, LocalDate.now(), 1)
+    ));
+    when(repository.selectClubsByIds(List.of(2))).thenReturn(List.of(new Club(2, 1, "club2")));
+
+    List<PlayerSeasonStat> actual = sut.getPlayerSeasonStatByPlayerId(1, 1);
+
+    assertEquals(List.of(playerSeasonStat1, playerSeasonStat2), actual);
+    assertEquals(List.of(playerGameStat1, playerGameStat2), actual.get(0).playerGameStats());
+    assertEquals(List.of(playerGameStat1, playerGameStat2), actual.get(1).playerGameStats());
+  }
+
+  @Test
+  @DisplayName("選手IDによる選手通算成績の検索_シーズンごとに問い合わせず集計クエリが1回だけ処理されること")
+  void getPlayerSeasonStatsByPlayerId() throws ResourceNotFoundException {
+    PlayerSeasonStat playerSeasonStat1 = new PlayerSeasonStat(1, 1, 1, 1, 1, 0, 0, 0, 90, 0, 0, "player1", "club1", "season1");
+    PlayerSeasonStat playerSeasonStat2 = new PlayerSeasonStat(1, 2, 1, 1, 1, 0, 0, 0, 90, 0, 0, "player1", "club1", "season2");
+    PlayerGameStat playerGameStat1 = new PlayerGameStat(1, 1, 1, 1, true, 0, 0, 90, 0, 0, 1);
+    PlayerGameStat playerGameStat2 = new PlayerGameStat(2, 1, 1, 1, true, 0, 0, 90, 0, 0, 2);
+    when(repository.selectPlayerSeasonStatsByPlayer(1, null)).thenReturn(List.of(playerSeasonStat1, playerSeasonStat2));
+    when(repository.selectPlayerGameStatsByPlayer(1)).thenReturn(List.of(playerGameStat1, playerGameStat2));
+    when(repository.selectGameResultsByIds(List.of(1, 2))).thenReturn(List.of(
+        new GameResult(1, 1, 2, 0, 0, null, 1, LocalDate.now(), 1),
+        new GameResult(2, 1, 2, 0, 0, null, 1, LocalDate.now(), 2)
+    ));
+    when(repository.selectClubsByIds(List.of(2))).thenReturn(List.of(new Club(2, 1, "club2")));
+
+    List<PlayerSeasonStat> actual = sut.getPlayerSeasonStatsByPlayerId(1);
+
+    assertEquals(List.of(playerSeasonStat1, playerSeasonStat2), actual);
+    assertEquals(List.of(playerGameStat1), actual.get(0).playerGameStats());
+    assertEquals(List.of(playerGameStat2), actual.get(1).playerGameStats());
+    verify(repository, never()).selectSeasons();
+    verify(repository, never()).selectPlayerGameStatsByPlayerAndSeason(anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("選手IDによる選手通算成績の検索_試合成績を含めない場合は集計クエリのみ処理されること")
+  void getPlayerSeasonStatsByPlayerId_withoutGames() throws ResourceNotFoundException {
+    when(repository.selectPlayerSeasonStatsByPlayer(1, null)).thenReturn(List.of());
+
+    List<PlayerSeasonStat> actual = sut.getPlayerSeasonStatsByPlayerId(1, false);
+
+    assertEquals(List.of(), actual);
+    verify(repository, never()).selectPlayerGameStatsByPlayer(anyInt());
   }
 
   @Test
@@ -563,16 +821,23 @@ class FootballServiceTest {
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
-    for (PlayerGameStat playerGameStat : homeClubStats) {
-      when(repository.selectPlayer(playerGameStat.getPlayerId())).thenReturn(Optional.of(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)));
-    }
-    for (PlayerGameStat playerGameStat : awayClubStats) {
-      when(repository.selectPlayer(playerGameStat.getPlayerId())).thenReturn(Optional.of(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)));
-    }
+    List<Player> players = new ArrayList<>();
+    homeClubStats.forEach(playerGameStat -> players.add(new Player(playerGameStat.getPlayerId(), 1, "sampleName", 1)));
+    awayClubStats.forEach(playerGameStat -> players.add(new Player(playerGameStat.getPlayerId(), 2, "sampleName", 1)));
+    when(repository.selectPlayersByIds(anyList())).thenReturn(players);
 
     sut.registerGameResultAndPlayerGameStats(gameResultWithPlayerStats);
 
     verify(repository, times(1)).selectLeague(anyInt());
+    // 出場選手は1回のクエリでまとめて取得すること
+    verify(repository, times(1)).selectPlayersByIds(anyList());
+    verify(repository, never()).selectPlayer(anyInt());
+    // 選手成績はまとめて1回で登録すること
+    verify(repository, times(1)).insertPlayerGameStats(anyList());
+    verify(repository, never()).insertPlayerGameStat(any());
+    // 集計テーブルにも同じトランザクションでまとめて加算すること
+    verify(repository, times(1)).upsertPlayerSeasonTotals(argThat(totals -> totals.size() == 23
+        && totals.stream().allMatch(total -> total.seasonId() == 1 && total.games() == 1)));
   }
 
   @Test
@@ -585,6 +850,167 @@ class FootballServiceTest {
     assertEquals("Game date is not in the current season", thrown.getMessage());
   }
 
+  @Test
+  @DisplayName("過去の試合の取り込み準備_試合結果のシーズンで確認し、選手の所属クラブは出場した側のクラブが設定されること")
+  void prepareImportedGameResultAndPlayerGameStats() throws FootballException, ResourceNotFoundException {
+    GameResultWithPlayerStats gameResultWithPlayerStats = getPastGameResultWithPlayerStats();
+    when(repository.selectSeason(201920)).thenReturn(Optional.of(new Season(201920, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false)));
+    when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
+    // 現在は別のリーグに所属しているクラブ
+    when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 2, "sampleName")));
+    when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 2, "sampleName")));
+    // 現在は別のクラブに所属している選手
+    List<Player> players = IntStream.range(1, 23).mapToObj(i -> new Player(i, 3, "sampleName", i)).collect(Collectors.toList());
+    when(repository.selectPlayersByIds(anyList())).thenReturn(players);
+
+    sut.prepareImportedGameResultAndPlayerGameStats(gameResultWithPlayerStats);
+
+    assertEquals(List.of(1), gameResultWithPlayerStats.getHomePlayerGameStats().stream().map(PlayerGameStat::getClubId).distinct().toList());
+    assertEquals(List.of(2), gameResultWithPlayerStats.getAwayPlayerGameStats().stream().map(PlayerGameStat::getClubId).distinct().toList());
+    verify(repository, never()).selectCurrentSeason();
+    // 取り込み準備では登録しないこと
+    verify(repository, never()).insertGameResult(any());
+    verify(repository, never()).insertPlayerGameStats(anyList());
+  }
+
+  @Test
+  @DisplayName("過去の試合の取り込み準備_試合日が試合結果のシーズン外の場合に例外処理が発生すること")
+  void prepareImportedGameResultAndPlayerGameStats_withInvalidDate() {
+    GameResultWithPlayerStats gameResultWithPlayerStats = getPastGameResultWithPlayerStats();
+    when(repository.selectSeason(201920)).thenReturn(Optional.of(new Season(201920, "2019-20", LocalDate.of(2018, 7, 1), LocalDate.of(2019, 6, 30), false)));
+    List<Player> players = IntStream.range(1, 23).mapToObj(i -> new Player(i, 3, "sampleName", i)).collect(Collectors.toList());
+    when(repository.selectPlayersByIds(anyList())).thenReturn(players);
+
+    FootballException thrown = assertThrows(FootballException.class, () -> sut.prepareImportedGameResultAndPlayerGameStats(gameResultWithPlayerStats));
+    assertEquals("Game date is not in the season", thrown.getMessage());
+  }
+
+  @Test
+  @DisplayName("確認済みの試合の登録_試合結果は1件ずつ、選手成績はまとめて1回で登録されること")
+  void registerPreparedGameResultsAndPlayerGameStats() {
+    List<GameResultWithPlayerStats> gameResultsWithPlayerStats = List.of(getPastGameResultWithPlayerStats(), getPastGameResultWithPlayerStats());
+
+    sut.registerPreparedGameResultsAndPlayerGameStats(gameResultsWithPlayerStats);
+
+    verify(repository, times(2)).insertGameResult(any());
+    verify(repository, times(1)).insertPlayerGameStats(anyList());
+    // 同じ (選手, クラブ, シーズン) の成績は合算して1回で加算すること
+    verify(repository, times(1)).upsertPlayerSeasonTotals(argThat(totals -> totals.size() == 22
+        && totals.stream().allMatch(total -> total.seasonId() == 201920 && total.games() == 2 && total.minutes() == 180)));
+  }
+
+  @Test
+  @DisplayName("登録済みの試合結果と選手成績の登録_選手成績の件数が多い場合は分割して処理されること")
+  void registerPreparedGameResultsAndPlayerGameStats_withManyPlayerGameStats() {
+    List<PlayerGameStat> playerGameStats = IntStream.range(0, 501)
+        .mapToObj(i -> new PlayerGameStat(new PlayerGameStatForJson(1, true, 0, 0, 90, 0, 0)))
+        .toList();
+    GameResult gameResult = new GameResult(1, 1, 2, 0, 0, null, 1, LocalDate.of(2019, 8, 1), 201920);
+
+    sut.registerPreparedGameResultsAndPlayerGameStats(List.of(new GameResultWithPlayerStats(gameResult, playerGameStats, List.of())));
+
+    verify(repository, times(1)).insertPlayerGameStats(playerGameStats.subList(0, 500));
+    verify(repository, times(1)).insertPlayerGameStats(playerGameStats.subList(500, 501));
+    verify(repository, times(1)).upsertPlayerSeasonTotals(anyList());
+  }
+
+  @Test
+  @DisplayName("シーズンのスナップショットの取得_一度作成したスナップショットは成績が登録されるまで再利用されること")
+  void getSeasonSnapshot() throws ResourceNotFoundException {
+    when(repository.selectSeason(201920)).thenReturn(Optional.of(new Season(201920, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false)));
+    PlayerGameStat playerGameStat = new PlayerGameStat(1, 1, 1, 1, true, 2, 0, 90, 0, 0, 1);
+    doAnswer(invocation -> {
+      ResultHandler<PlayerGameStat> handler = invocation.getArgument(1);
+      ResultContext<PlayerGameStat> context = mock();
+      when(context.getResultObject()).thenReturn(playerGameStat);
+      handler.handleResult(context);
+      return null;
+    }).when(repository).selectPlayerGameStatsBySeason(eq(201920), any());
+    when(repository.selectPlayersByIds(List.of(1))).thenReturn(List.of(new Player(1, 1, "sampleName", 1)));
+
+    SeasonSnapshot first = sut.getSeasonSnapshot(201920);
+    SeasonSnapshot second = sut.getSeasonSnapshot(201920);
+
+    assertSame(first, second);
+    assertEquals(2, first.sum(SeasonSnapshot.Column.GOALS));
+    assertEquals("sampleName", first.playerName(0));
+    verify(repository, times(1)).selectPlayerGameStatsBySeason(eq(201920), any());
+
+    // 成績の登録後は作り直すこと
+    sut.registerPlayerGameStat(playerGameStat);
+    assertNotSame(first, sut.getSeasonSnapshot(201920));
+    verify(repository, times(2)).selectPlayerGameStatsBySeason(eq(201920), any());
+  }
+
+  @Test
+  @DisplayName("選手ランキングの取得_1件多く取得し、次のページがある場合は次のページの先頭の位置が設定されること")
+  void getLeaderboard() throws ResourceNotFoundException {
+    when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
+    when(repository.selectSeason(201920)).thenReturn(Optional.of(new Season(201920, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false)));
+    List<Leaderboard.Leader> leaders = IntStream.range(0, 3)
+        .mapToObj(i -> new Leaderboard.Leader(i + 3, i + 1, "sampleName", 1, "sampleName", 10 - i, 5, 450))
+        .toList();
+    when(repository.selectLeaders(1, 201920, LeaderStat.GOALS, 3, 2)).thenReturn(leaders);
+
+    Leaderboard actual = sut.getLeaderboard(1, 201920, LeaderStat.GOALS, 2, 2);
+
+    assertEquals(new Leaderboard(1, 201920, LeaderStat.GOALS, 2, 4, leaders.subList(0, 2)), actual);
+  }
+
+  @Test
+  @DisplayName("選手ランキングの取得_最後のページの場合は次のページの先頭の位置がnullであること")
+  void getLeaderboard_lastPage() throws ResourceNotFoundException {
+    when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
+    when(repository.selectSeason(201920)).thenReturn(Optional.of(new Season(201920, "2019-20", LocalDate.of(2019, 7, 1), LocalDate.of(2020, 6, 30), false)));
+    List<Leaderboard.Leader> leaders = List.of(new Leaderboard.Leader(1, 1, "sampleName", 1, "sampleName", 1, 1, 90));
+    when(repository.selectLeaders(1, 201920, LeaderStat.GOALS, 11, 0)).thenReturn(leaders);
+
+    Leaderboard actual = sut.getLeaderboard(1, 201920, LeaderStat.GOALS, 10, 0);
+
+    assertEquals(new Leaderboard(1, 201920, LeaderStat.GOALS, 0, null, leaders), actual);
+  }
+
+  @Test
+  @DisplayName("選手ランキングの取得_リーグが存在しない場合に例外処理が発生すること")
+  void getLeaderboard_withNoLeague() {
+    when(repository.selectLeague(99)).thenReturn(Optional.empty());
+
+    ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class, () -> sut.getLeaderboard(99, 201920, LeaderStat.GOALS, 10, 0));
+    assertEquals("League not found", thrown.getMessage());
+    verify(repository, never()).selectLeaders(anyInt(), anyInt(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("選手シーズン成績の集計の作り直し_作り直す前の集計と一致しない件数が返されること")
+  void rebuildPlayerSeasonTotals() {
+    PlayerSeasonTotal unchanged = new PlayerSeasonTotal(1, 1, 201920, 2, 2, 1, 0, 180, 0, 0, 1);
+    PlayerSeasonTotal drifted = new PlayerSeasonTotal(2, 1, 201920, 2, 1, 0, 1, 180, 0, 0, 2);
+    PlayerSeasonTotal orphaned = new PlayerSeasonTotal(3, 2, 201920, 1, 1, 0, 0, 90, 0, 0, 3);
+    PlayerSeasonTotal missing = new PlayerSeasonTotal(4, 2, 201920, 1, 1, 0, 0, 90, 0, 0, 4);
+    when(repository.selectPlayerSeasonTotals(201920)).thenReturn(
+        List.of(unchanged, new PlayerSeasonTotal(2, 1, 201920, 1, 1, 0, 0, 90, 0, 0, 2), orphaned),
+        List.of(unchanged, drifted, missing));
+
+    PlayerSeasonTotalsReport actual = sut.rebuildPlayerSeasonTotals(201920);
+
+    assertEquals(new PlayerSeasonTotalsReport(3, 3), actual);
+    InOrder inOrder = inOrder(repository);
+    inOrder.verify(repository).deletePlayerSeasonTotals(201920);
+    inOrder.verify(repository).insertPlayerSeasonTotalsFromPlayerGameStats(201920);
+  }
+
+  // 2019-20シーズンの試合（ホーム・アウェイとも11人が90分出場、1-0）
+  private GameResultWithPlayerStats getPastGameResultWithPlayerStats() {
+    GameResult gameResult = new GameResult(0, 1, 2, 1, 0, 1, 1, LocalDate.of(2019, 8, 1), 201920);
+    List<PlayerGameStat> homeClubStats = IntStream.range(1, 12)
+        .mapToObj(i -> new PlayerGameStat(0, i, 0, 0, true, i == 1 ? 1 : 0, 0, 90, 0, 0, 0, null, null, null))
+        .collect(Collectors.toList());
+    List<PlayerGameStat> awayClubStats = IntStream.range(12, 23)
+        .mapToObj(i -> new PlayerGameStat(0, i, 0, 0, true, 0, 0, 90, 0, 0, 0, null, null, null))
+        .collect(Collectors.toList());
+    return new GameResultWithPlayerStats(gameResult, homeClubStats, awayClubStats);
+  }
+
   private GameResultWithPlayerStats getResultWithPlayerStatsWithInvalidDate() {
     GameResultForJson gameResultForJson = new GameResultForJson(1, 2, 1, 1, 1, LocalDate.of(2000, 1, 1), 202425);
     List<PlayerGameStatForJson> homeClubStatsForJson = new ArrayList<>();
@@ -657,8 +1083,10 @@ class FootballServiceTest {
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
     // Playerを呼び出したときに、異なるクラブ所属選手を返すようにする
-    when(repository.selectPlayer(1)).thenReturn(Optional.of(new Player(1, 2, "sampleName", 1)));
-    when(repository.selectPlayer(2)).thenReturn(Optional.of(new Player(2, 1, "sampleName", 1)));
+    when(repository.selectPlayersByIds(anyList())).thenReturn(List.of(
+        new Player(1, 2, "sampleName", 1),
+        new Player(2, 1, "sampleName", 1)
+    ));
 
     // 例外が投げられることを確認、メッセージもチェック
     FootballException thrown = assertThrows(FootballException.class, () -> sut.registerGameResultAndPlayerGameStats(gameResultWithPlayerStats));
@@ -684,8 +1112,10 @@ class FootballServiceTest {
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
     // Playerを呼び出したときに、異なるクラブ所属選手を返すようにする
-    when(repository.selectPlayer(1)).thenReturn(Optional.of(new Player(1, 1, "sampleName", 1)));
-    when(repository.selectPlayer(2)).thenReturn(Optional.of(new Player(2, 1, "sampleName", 1)));
+    when(repository.selectPlayersByIds(anyList())).thenReturn(List.of(
+        new Player(1, 1, "sampleName", 1),
+        new Player(2, 1, "sampleName", 1)
+    ));
 
     // 例外が投げられることを確認、メッセージもチェック
     FootballException thrown = assertThrows(FootballException.class, () -> sut.registerGameResultAndPlayerGameStats(gameResultWithPlayerStats));
@@ -720,8 +1150,10 @@ class FootballServiceTest {
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
-    when(repository.selectPlayer(1)).thenReturn(Optional.of(new Player(1, 1, "sampleName", 1)));
-    when(repository.selectPlayer(2)).thenReturn(Optional.of(new Player(2, 2, "sampleName", 1)));
+    when(repository.selectPlayersByIds(anyList())).thenReturn(List.of(
+        new Player(1, 1, "sampleName", 1),
+        new Player(2, 2, "sampleName", 1)
+    ));
   }
 
   @Test
@@ -863,12 +1295,14 @@ class FootballServiceTest {
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
+    List<Player> players = new ArrayList<>();
     for (int i = 1; i <= 11; i++) {
-      when(repository.selectPlayer(i)).thenReturn(Optional.of(new Player(i, 1, "sampleName", 1)));
+      players.add(new Player(i, 1, "sampleName", 1));
     }
     for (int i = 12; i <= 23; i++) {
-      when(repository.selectPlayer(i)).thenReturn(Optional.of(new Player(i, 2, "sampleName", 1)));
+      players.add(new Player(i, 2, "sampleName", 1));
     }
+    when(repository.selectPlayersByIds(anyList())).thenReturn(players);
   }
 
   private void setWhenReturnFor22PlayersAtResisterGameResultAndPlayerGameStats() {
@@ -876,12 +1310,14 @@ class FootballServiceTest {
     when(repository.selectLeague(1)).thenReturn(Optional.of(new League(1, 1, "sampleName")));
     when(repository.selectClub(1)).thenReturn(Optional.of(new Club(1, 1, "sampleName")));
     when(repository.selectClub(2)).thenReturn(Optional.of(new Club(2, 1, "sampleName")));
+    List<Player> players = new ArrayList<>();
     for (int i = 1; i <= 11; i++) {
-      when(repository.selectPlayer(i)).thenReturn(Optional.of(new Player(i, 1, "sampleName", 1)));
+      players.add(new Player(i, 1, "sampleName", 1));
     }
     for (int i = 12; i <= 22; i++) {
-      when(repository.selectPlayer(i)).thenReturn(Optional.of(new Player(i, 2, "sampleName", 1)));
+      players.add(new Player(i, 2, "sampleName", 1));
     }
+    when(repository.selectPlayersByIds(anyList())).thenReturn(players);
   }
 
 
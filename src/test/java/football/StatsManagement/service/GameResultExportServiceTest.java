@@ -0,0 +1,103 @@
+package football.StatsManagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import football.StatsManagement.exception.FootballException;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.data.PlayerGameStat;
+import football.StatsManagement.repository.FootballRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class GameResultExportServiceTest {
+
+  @Mock
+  private FootballRepository repository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private Cursor<GameResult> gameResultCursor;
+
+  @Mock
+  private Cursor<PlayerGameStat> playerGameStatCursor;
+
+  private GameResultExportService sut;
+
+  @BeforeEach
+  void setUp() {
+    // 日付はアプリケーションと同じくISO形式で出力する
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    this.sut = new GameResultExportService(repository, objectMapper, transactionManager);
+  }
+
+  @Test
+  @DisplayName("全試合結果をNDJSONで出力できること_引き分けの勝利クラブIDはnullで出力されること")
+  void exportGameResults_withNdjson() throws Exception {
+    when(repository.selectGameResultsCursor()).thenReturn(gameResultCursor);
+    when(gameResultCursor.iterator()).thenReturn(List.of(
+        new GameResult(1, 1, 2, 2, 1, 1, 1, LocalDate.of(2019, 8, 1), 201920),
+        new GameResult(2, 3, 4, 0, 0, null, 2, LocalDate.of(2019, 8, 2), 201920)
+    ).iterator());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    sut.exportGameResults(outputStream, GameResultExportService.Format.NDJSON);
+
+    String expected = """
+        {"id":1,"homeClubId":1,"awayClubId":2,"homeScore":2,"awayScore":1,"winnerClubId":1,"leagueId":1,"gameDate":"2019-08-01","seasonId":201920}
+        {"id":2,"homeClubId":3,"awayClubId":4,"homeScore":0,"awayScore":0,"winnerClubId":null,"leagueId":2,"gameDate":"2019-08-02","seasonId":201920}
+        """;
+    assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    // 読み込み後にCursorを閉じること
+    verify(gameResultCursor, times(1)).close();
+  }
+
+  @Test
+  @DisplayName("全選手成績をCSVで出力できること_1行目に列名が出力されること")
+  void exportPlayerGameStats_withCsv() throws Exception {
+    when(repository.selectPlayerGameStatsCursor()).thenReturn(playerGameStatCursor);
+    when(playerGameStatCursor.iterator()).thenReturn(List.of(
+        new PlayerGameStat(1, 1, 1, 10, true, 1, 0, 90, 0, 0, 1)
+    ).iterator());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    sut.exportPlayerGameStats(outputStream, GameResultExportService.Format.CSV);
+
+    String expected = """
+        id,playerId,clubId,number,starter,goals,assists,minutes,yellowCards,redCards,gameId
+        1,1,1,10,true,1,0,90,0,0,1
+        """;
+    assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    verify(playerGameStatCursor, times(1)).close();
+  }
+
+  @Test
+  @DisplayName("出力形式は大文字・小文字を区別せずに指定でき、未対応の形式の場合は例外処理が発生すること")
+  void formatOf() throws FootballException {
+    assertEquals(GameResultExportService.Format.CSV, GameResultExportService.Format.of("csv"));
+    assertEquals(GameResultExportService.Format.NDJSON, GameResultExportService.Format.of("NDJSON"));
+    FootballException thrown = assertThrows(FootballException.class, () -> GameResultExportService.Format.of("xml"));
+    assertEquals("Format must be ndjson or csv", thrown.getMessage());
+  }
+}
@@ -0,0 +1,134 @@
+package football.StatsManagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import football.StatsManagement.exception.FootballException;
+import football.StatsManagement.model.domain.GameResultWithPlayerStats;
+import football.StatsManagement.model.domain.ImportReport;
+import football.StatsManagement.model.domain.ImportReport.RowError;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class GameResultImportServiceTest {
+
+  @Mock
+  private FootballService service;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private GameResultImportService sut;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    this.sut = new GameResultImportService(service, objectMapper,
+        Validation.buildDefaultValidatorFactory().getValidator(), transactionManager);
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込み_chunkSize件ごとにまとめて登録されること")
+  void importGameResults() throws Exception {
+    InputStream inputStream = ndjson(game(20190801), game(20190808), "", game(20190815));
+
+    ImportReport actual = sut.importGameResults(inputStream, 2);
+
+    assertEquals(new ImportReport(3, 0, List.of()), actual);
+    verify(service, times(3)).prepareImportedGameResultAndPlayerGameStats(any());
+    verify(service, times(1)).registerPreparedGameResultsAndPlayerGameStats(argThat(games -> games.size() == 2));
+    verify(service, times(1)).registerPreparedGameResultsAndPlayerGameStats(argThat(games -> games.size() == 1));
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込み_読み込み・入力チェック・整合性の確認で失敗した行が行番号とともに報告されること")
+  void importGameResults_withInvalidRows() throws Exception {
+    // 3行目は整合性の確認で失敗させる
+    doAnswer(invocation -> {
+      GameResultWithPlayerStats gameResultWithPlayerStats = invocation.getArgument(0);
+      if (gameResultWithPlayerStats.getGameResult().getHomeScore() == 9) {
+        throw new FootballException("Home score is not correct");
+      }
+      return null;
+    }).when(service).prepareImportedGameResultAndPlayerGameStats(any());
+    InputStream inputStream = ndjson(
+        "{ invalid",
+        game(20190801).replace("\"homeClubId\":9", "\"homeClubId\":0"),
+        game(20190808).replace("\"homeScore\":1", "\"homeScore\":9"),
+        game(20190815));
+
+    ImportReport actual = sut.importGameResults(inputStream, 10);
+
+    assertEquals(1, actual.imported());
+    assertEquals(3, actual.failed());
+    assertEquals(List.of(1, 2, 3), actual.errors().stream().map(RowError::line).toList());
+    assertTrue(actual.errors().get(1).message().startsWith("gameResult.homeClubId: "));
+    assertEquals("Home score is not correct", actual.errors().get(2).message());
+    verify(service, times(1)).registerPreparedGameResultsAndPlayerGameStats(argThat(games -> games.size() == 1));
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込み_まとめての登録に失敗した場合は1行ずつ登録し直し、失敗した行のみ報告されること")
+  void importGameResults_withRegistrationFailure() throws Exception {
+    // 2行目の試合を含む登録は失敗させる
+    doAnswer(invocation -> {
+      List<GameResultWithPlayerStats> games = invocation.getArgument(0);
+      if (games.stream().anyMatch(game -> game.getGameResult().getGameDate().getDayOfMonth() == 8)) {
+        throw new DataIntegrityViolationException("Duplicate entry");
+      }
+      return null;
+    }).when(service).registerPreparedGameResultsAndPlayerGameStats(anyList());
+    InputStream inputStream = ndjson(game(20190801), game(20190808), game(20190815));
+
+    ImportReport actual = sut.importGameResults(inputStream, 3);
+
+    assertEquals(new ImportReport(2, 1, List.of(new RowError(2, "Duplicate entry"))), actual);
+    // まとめての登録1回と1行ずつの登録3回
+    verify(service, times(4)).registerPreparedGameResultsAndPlayerGameStats(anyList());
+    verify(transactionManager, times(2)).commit(any());
+    verify(transactionManager, times(2)).rollback(any());
+  }
+
+  @Test
+  @DisplayName("試合結果の一括取り込み_空のファイルの場合は何も登録されないこと")
+  void importGameResults_withEmptyInput() throws Exception {
+    ImportReport actual = sut.importGameResults(ndjson(), 10);
+
+    assertEquals(new ImportReport(0, 0, List.of()), actual);
+    verify(service, never()).registerPreparedGameResultsAndPlayerGameStats(anyList());
+  }
+
+  private InputStream ndjson(String... lines) {
+    return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 2019-20シーズンのクラブ9とクラブ10の試合（1-0、選手成績は省略）
+  private String game(int gameDate) {
+    String date = String.valueOf(gameDate);
+    return "{\"gameResult\":{\"homeClubId\":9,\"awayClubId\":10,\"homeScore\":1,\"awayScore\":0,\"leagueId\":4,"
+        + "\"gameDate\":\"" + date.substring(0, 4) + "-" + date.substring(4, 6) + "-" + date.substring(6) + "\",\"seasonId\":201920},"
+        + "\"homeClubPlayerGameStats\":[],\"awayClubPlayerGameStats\":[]}";
+  }
+}
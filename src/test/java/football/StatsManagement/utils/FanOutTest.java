@@ -0,0 +1,166 @@
+package football.StatsManagement.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.exception.ResourceNotFoundException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FanOutTest {
+
+  @Test
+  @DisplayName("フォークしたタスクが並行に実行され、完了順に関わらずフォークした順に結果を取得できること")
+  void fork() throws ResourceNotFoundException {
+    FanOut sut = new FanOut(10);
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch secondDone = new CountDownLatch(1);
+
+    try (FanOut.Scope scope = sut.open()) {
+      // 1つ目は2つ目の完了を待つため、順に実行されると完了しない
+      Supplier<String> first = scope.fork(() -> {
+        started.countDown();
+        assertTrue(secondDone.await(5, TimeUnit.SECONDS));
+        return "first";
+      });
+      Supplier<String> second = scope.fork(() -> {
+        started.countDown();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        secondDone.countDown();
+        return "second";
+      });
+      scope.join();
+
+      assertEquals("first", first.get());
+      assertEquals("second", second.get());
+    }
+  }
+
+  @Test
+  @DisplayName("失敗したタスクがある場合、フォークした順で最初に失敗したタスクの例外がjoinで投げられること")
+  void join_withException() {
+    FanOut sut = new FanOut(10);
+
+    try (FanOut.Scope scope = sut.open()) {
+      scope.fork(() -> {
+        Thread.sleep(100);
+        throw new ResourceNotFoundException("League not found");
+      });
+      scope.fork(() -> {
+        throw new IllegalStateException("unexpected");
+      });
+
+      ResourceNotFoundException actual = assertThrows(ResourceNotFoundException.class, scope::join);
+      assertEquals("League not found", actual.getMessage());
+    }
+  }
+
+  @Test
+  @DisplayName("join前に結果を取得しようとした場合、IllegalStateExceptionが投げられること")
+  void get_beforeJoin() {
+    FanOut sut = new FanOut(10);
+
+    try (FanOut.Scope scope = sut.open()) {
+      Supplier<String> result = scope.fork(() -> "result");
+
+      assertThrows(IllegalStateException.class, result::get);
+    }
+  }
+
+  @Test
+  @DisplayName("同時実行数の上限に達している場合、呼び出し元のスレッドで実行されること")
+  void fork_withMaxConcurrency() throws ResourceNotFoundException {
+    FanOut sut = new FanOut(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread caller = Thread.currentThread();
+
+    try (FanOut.Scope scope = sut.open()) {
+      Supplier<Thread> first = scope.fork(() -> {
+        assertTrue(release.await(5, TimeUnit.SECONDS));
+        return Thread.currentThread();
+      });
+      Supplier<Thread> second = scope.fork(Thread::currentThread);
+      release.countDown();
+      scope.join();
+
+      assertNotSame(caller, first.get());
+      assertSame(caller, second.get());
+    }
+  }
+
+  @Test
+  @DisplayName("実行中のタスクがキャンセルされても、終了するまで同時実行数の上限を超えてフォークされないこと")
+  void fork_afterCancelRunningTask() throws Exception {
+    FanOut sut = new FanOut(2);
+    CountDownLatch blockedStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread caller = Thread.currentThread();
+
+    try (FanOut.Scope scope = sut.open()) {
+      try {
+        scope.fork(() -> {
+          throw new ResourceNotFoundException("League not found");
+        });
+        // JDBC の呼び出しのように割り込みに応じずに実行を続けるタスク
+        scope.fork(() -> {
+          blockedStarted.countDown();
+          awaitIgnoringInterrupts(release);
+          return null;
+        });
+        assertTrue(blockedStarted.await(5, TimeUnit.SECONDS));
+        // 失敗したタスクにより、実行中のタスクがキャンセルされる
+        assertThrows(ResourceNotFoundException.class, scope::join);
+
+        // 許可はキャンセルされたタスクが保持したままのため、残りは1つ
+        CountDownLatch secondForked = new CountDownLatch(1);
+        try (FanOut.Scope other = sut.open()) {
+          Supplier<Thread> first = other.fork(() -> {
+            assertTrue(secondForked.await(5, TimeUnit.SECONDS));
+            return Thread.currentThread();
+          });
+          Supplier<Thread> second = other.fork(Thread::currentThread);
+          secondForked.countDown();
+          other.join();
+
+          assertNotSame(caller, first.get());
+          assertSame(caller, second.get());
+        }
+      } finally {
+        release.countDown();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("トランザクション内では、すべてのタスクが呼び出し元のスレッドで実行されること")
+  void fork_inTransaction() throws ResourceNotFoundException {
+    FanOut sut = new FanOut(10);
+    Thread caller = Thread.currentThread();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    try (FanOut.Scope scope = sut.open()) {
+      Supplier<Thread> first = scope.fork(Thread::currentThread);
+      Supplier<Thread> second = scope.fork(Thread::currentThread);
+      scope.join();
+
+      assertSame(caller, first.get());
+      assertSame(caller, second.get());
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+  }
+
+  private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+      try {
+        latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException ignored) {
+        // キャンセルによる割り込みを無視する
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package football.StatsManagement.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import football.StatsManagement.model.data.Club;
+import football.StatsManagement.model.data.GameResult;
+import football.StatsManagement.model.domain.ClubForStanding;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RankingRulesTest {
+
+  private final Club clubA = new Club(1, 1, "Club A");
+  private final Club clubB = new Club(2, 1, "Club B");
+  private final Club clubC = new Club(3, 1, "Club C");
+
+  @Test
+  @DisplayName("定義のないリーグには既定の順位決定基準が適用されること")
+  void rulesOf_withUndefinedLeague() {
+    assertEquals(RankingRules.DEFAULT_RULES, RankingRules.rulesOf(999));
+  }
+
+  @Test
+  @DisplayName("コンパイル済みの比較器がリーグごとにキャッシュされること")
+  void compiled() {
+    assertSame(RankingRules.compiled(LeagueIds.SERIE_A_ID), RankingRules.compiled(LeagueIds.SERIE_A_ID));
+    assertNotSame(RankingRules.compiled(LeagueIds.SERIE_A_ID), RankingRules.compiled(LeagueIds.PRIMERA_DIVISION_ID));
+  }
+
+  @Test
+  @DisplayName("定義のないリーグでも勝ち点・得失点差・得点の順に並び替えられること")
+  void sortedClubForStandings_withUndefinedLeague() {
+    // A:勝ち点3 得失点差+1, B:勝ち点3 得失点差+2, C:勝ち点0
+    GameResult gameResult1 = new GameResult(1, 1, 3, 1, 0, 1, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 3, 2, 0, 2, 1, LocalDate.now(), 1);
+    List<ClubForStanding> input = ClubForStanding.initialClubForStandings(List.of(clubC, clubA, clubB), List.of(gameResult1, gameResult2));
+
+    List<ClubForStanding> actual = RankingUtils.sortedClubForStandings(999, input);
+
+    assertEquals(List.of(clubB, clubA, clubC), actual.stream().map(ClubForStanding::getClub).toList());
+  }
+
+  @Test
+  @DisplayName("セリエAでは得失点差よりも当該チーム間の勝ち点が優先されること")
+  void sortedClubForStandings_inSerieA() {
+    // A:Bに勝利（勝ち点3 得失点差+1） B:Cに大勝、Aに敗戦（勝ち点3 得失点差+4）
+    GameResult gameResult1 = new GameResult(1, 1, 2, 1, 0, 1, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 3, 5, 0, 2, 1, LocalDate.now(), 1);
+    List<ClubForStanding> input = ClubForStanding.initialClubForStandings(List.of(clubB, clubA, clubC),
+        List.of(gameResult1, gameResult2));
+
+    List<ClubForStanding> actual = RankingUtils.sortedClubForStandings(LeagueIds.SERIE_A_ID, input);
+
+    assertEquals(List.of(clubA, clubB, clubC), actual.stream().map(ClubForStanding::getClub).toList());
+  }
+
+  @ParameterizedTest
+  @MethodSource("threeWayTieInputOrders")
+  @DisplayName("3クラブが当該チーム間で三すくみになっても、クラブ群全体の当該成績で入力順に関わらず同じ順位になること")
+  void sortedClubForStandings_withThreeWayTie(List<Club> inputOrder) {
+    // A:Bに1-0で勝利、Cに0-4で敗戦 B:Cに5-0で勝利、Aに敗戦 C:Aに4-0で勝利、Bに敗戦（全クラブ勝ち点3）
+    // 当該チーム間の得失点差 A:-3, B:+4, C:-1
+    GameResult gameResult1 = new GameResult(1, 1, 2, 1, 0, 1, 1, LocalDate.now(), 1);
+    GameResult gameResult2 = new GameResult(2, 2, 3, 5, 0, 2, 1, LocalDate.now(), 1);
+    GameResult gameResult3 = new GameResult(3, 3, 1, 4, 0, 3, 1, LocalDate.now(), 1);
+    List<ClubForStanding> input = ClubForStanding.initialClubForStandings(inputOrder,
+        List.of(gameResult1, gameResult2, gameResult3));
+
+    List<ClubForStanding> actual = RankingUtils.sortedClubForStandings(LeagueIds.SERIE_A_ID, input);
+
+    assertEquals(List.of(clubB, clubC, clubA), actual.stream().map(ClubForStanding::getClub).toList());
+  }
+
+  static Stream<Arguments> threeWayTieInputOrders() {
+    Club clubA = new Club(1, 1, "Club A");
+    Club clubB = new Club(2, 1, "Club B");
+    Club clubC = new Club(3, 1, "Club C");
+    return Stream.of(
+        Arguments.of(List.of(clubA, clubB, clubC)),
+        Arguments.of(List.of(clubC, clubA, clubB)),
+        Arguments.of(List.of(clubB, clubC, clubA))
+    );
+  }
+
+  @Test
+  @DisplayName("当該チーム間の成績で分割されたクラブ群には、そのクラブ群だけで当該チーム間の基準が再適用されること")
+  void sorted_withRecursiveMiniLeague() {
+    // 3クラブ間の勝ち点 A:9, B:4, C:4 → B,C間のみで再集計すると B:4, C:1 でBが上位
+    // （全試合の得失点差ではCが上位のため、再適用されない場合はCが上位になる）
+    List<GameResult> gameResults = List.of(
+        new GameResult(1, 1, 2, 1, 0, 1   , 1, LocalDate.now(), 1),
+        new GameResult(2, 2, 1, 0, 1, 1   , 1, LocalDate.now(), 1),
+        new GameResult(3, 1, 3, 1, 0, 1   , 1, LocalDate.now(), 1),
+        new GameResult(4, 3, 1, 5, 0, 3   , 1, LocalDate.now(), 1),
+        new GameResult(5, 2, 3, 1, 0, 2   , 1, LocalDate.now(), 1),
+        new GameResult(6, 3, 2, 0, 0, null, 1, LocalDate.now(), 1)
+    );
+    List<ClubForStanding> input = ClubForStanding.initialClubForStandings(List.of(clubC, clubB, clubA), gameResults);
+    RankingRules.Compiled compiled = RankingRules.compile(List.of(TieBreakRule.HEAD_TO_HEAD_POINTS, TieBreakRule.GOAL_DIFFERENCE));
+
+    List<ClubForStanding> actual = compiled.sorted(input);
+
+    assertEquals(List.of(clubA, clubB, clubC), actual.stream().map(ClubForStanding::getClub).toList());
+  }
+}
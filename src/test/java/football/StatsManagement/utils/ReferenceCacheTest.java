@@ -0,0 +1,77 @@
+package football.StatsManagement.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReferenceCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  @DisplayName("登録したデータを取得できること")
+  void get() {
+    ReferenceCache<Integer, String> sut = new ReferenceCache<>(10, Duration.ofMinutes(1), now::get);
+    sut.put(1, "value1", sut.generation());
+
+    assertEquals(Optional.of("value1"), sut.get(1));
+    assertEquals(Optional.empty(), sut.get(2));
+  }
+
+  @Test
+  @DisplayName("有効期限を過ぎたデータは取得できず破棄されること")
+  void get_withExpired() {
+    ReferenceCache<Integer, String> sut = new ReferenceCache<>(10, Duration.ofNanos(100), now::get);
+    sut.put(1, "value1", sut.generation());
+    now.set(99);
+    assertEquals(Optional.of("value1"), sut.get(1));
+
+    now.set(100);
+    assertEquals(Optional.empty(), sut.get(1));
+    assertEquals(0, sut.size());
+  }
+
+  @Test
+  @DisplayName("件数の上限を超えた場合は最も古く参照されたデータから破棄されること")
+  void put_withMaxSize() {
+    ReferenceCache<Integer, String> sut = new ReferenceCache<>(2, Duration.ofMinutes(1), now::get);
+    sut.put(1, "value1", sut.generation());
+    sut.put(2, "value2", sut.generation());
+    // 1を参照しておくと、2が最も古く参照されたデータになる
+    sut.get(1);
+
+    sut.put(3, "value3", sut.generation());
+
+    assertEquals(Optional.of("value1"), sut.get(1));
+    assertEquals(Optional.empty(), sut.get(2));
+    assertEquals(Optional.of("value3"), sut.get(3));
+  }
+
+  @Test
+  @DisplayName("読み込み中に破棄が行われた場合は、読み込んだデータが登録されないこと")
+  void put_withEvictionDuringLoad() {
+    ReferenceCache<Integer, String> sut = new ReferenceCache<>(10, Duration.ofMinutes(1), now::get);
+    long generation = sut.generation();
+    sut.evict(1);
+
+    sut.put(1, "stale", generation);
+
+    assertEquals(Optional.empty(), sut.get(1));
+  }
+
+  @Test
+  @DisplayName("全てのデータを破棄できること")
+  void clear() {
+    ReferenceCache<Integer, String> sut = new ReferenceCache<>(10, Duration.ofMinutes(1), now::get);
+    sut.put(1, "value1", sut.generation());
+    sut.put(2, "value2", sut.generation());
+
+    sut.clear();
+
+    assertEquals(0, sut.size());
+  }
+}
@@ -0,0 +1,82 @@
+package football.StatsManagement.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersionStampsTest {
+
+  private final AtomicLong now = new AtomicLong(1_000);
+
+  @Test
+  @DisplayName("更新されていないキーは起動時のバージョンが取得できること")
+  void get() {
+    VersionStamps<String> sut = new VersionStamps<>(now::get);
+
+    VersionStamps.Stamp actual = sut.get("key");
+
+    assertEquals(new VersionStamps.Stamp("rs-0", 1_000), actual);
+  }
+
+  @Test
+  @DisplayName("バージョンを進めたキーのみETagと最終更新日時が変わること")
+  void bump() {
+    VersionStamps<String> sut = new VersionStamps<>(now::get);
+    now.set(2_000);
+
+    sut.bump("key1");
+
+    assertEquals(new VersionStamps.Stamp("rs-1", 2_000), sut.get("key1"));
+    assertEquals(new VersionStamps.Stamp("rs-0", 1_000), sut.get("key2"));
+  }
+
+  @Test
+  @DisplayName("全てのバージョンを進めた場合は全てのキーのETagが変わり、以前のETagと一致しないこと")
+  void bumpAll() {
+    VersionStamps<String> sut = new VersionStamps<>(now::get);
+    sut.bump("key1");
+    now.set(3_000);
+
+    sut.bumpAll();
+    sut.bump("key2");
+
+    assertEquals(new VersionStamps.Stamp("rs-2", 3_000), sut.get("key1"));
+    assertEquals(new VersionStamps.Stamp("rs-3", 3_000), sut.get("key2"));
+    assertEquals(new VersionStamps.Stamp("rs-2", 3_000), sut.get("key3"));
+  }
+
+  @Test
+  @DisplayName("全てのバージョンを進める間に進めたキーのバージョンが失われないこと")
+  void bumpAll_withConcurrentBump() {
+    AtomicReference<VersionStamps<String>> holder = new AtomicReference<>();
+    AtomicBoolean interleave = new AtomicBoolean();
+    // bumpAll が時刻を取得する時点で、別のリクエストが key1 のバージョンを進める
+    VersionStamps<String> sut = new VersionStamps<>(() -> {
+      if (interleave.getAndSet(false)) {
+        holder.get().bump("key1");
+      }
+      return now.get();
+    });
+    holder.set(sut);
+    interleave.set(true);
+
+    sut.bumpAll();
+
+    assertEquals(new VersionStamps.Stamp("rs-2", 1_000), sut.get("key1"));
+    assertEquals(new VersionStamps.Stamp("rs-1", 1_000), sut.get("key2"));
+  }
+
+  @Test
+  @DisplayName("起動時刻が異なる場合はETagが一致しないこと")
+  void get_afterRestart() {
+    VersionStamps<String> before = new VersionStamps<>(now::get);
+    now.set(5_000);
+    VersionStamps<String> after = new VersionStamps<>(now::get);
+
+    assertNotEquals(before.get("key").etag(), after.get("key").etag());
+  }
+}
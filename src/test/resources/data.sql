@@ -108,3 +108,12 @@ INSERT INTO player_game_stats (player_id, club_id, number, starter, goals, assis
   (6, 3, 2, 1, 0, 0, 90, 0, 0, 6),
   (7, 4, 1, 0, 0, 0, 90, 0, 0, 6),
   (8, 4, 2, 0, 0, 0, 90, 0, 0, 6);
+
+-- 試合成績から選手の (クラブ, シーズン) ごとの集計を作成（V3 のマイグレーションと同じ）
+INSERT INTO player_season_totals (player_id, club_id, season_id, games, starter_games, goals, assists, minutes, yellow_cards, red_cards, first_stat_id)
+SELECT pgs.player_id, pgs.club_id, gr.season_id,
+  COUNT(pgs.id), COALESCE(SUM(pgs.starter), 0), COALESCE(SUM(pgs.goals), 0), COALESCE(SUM(pgs.assists), 0),
+  COALESCE(SUM(pgs.minutes), 0), COALESCE(SUM(pgs.yellow_cards), 0), COALESCE(SUM(pgs.red_cards), 0), MIN(pgs.id)
+FROM player_game_stats pgs
+JOIN game_results gr ON pgs.game_id = gr.id
+GROUP BY pgs.player_id, pgs.club_id, gr.season_id;
@@ -74,7 +74,28 @@ CREATE TABLE `player_game_stats` (
   FOREIGN KEY (`game_id`) REFERENCES `game_results`(`id`) ON DELETE SET NULL ON UPDATE CASCADE
 );
 
+-- src/main/resources/db/migration/V2__add_indexes.sql と同じインデックス
+CREATE INDEX idx_game_results_season_home_club ON game_results (season_id, home_club_id);
+CREATE INDEX idx_game_results_season_away_club ON game_results (season_id, away_club_id);
+CREATE INDEX idx_player_game_stats_player_game ON player_game_stats (player_id, game_id);
+CREATE INDEX idx_player_game_stats_club_game ON player_game_stats (club_id, game_id);
 
-
-
-
+-- src/main/resources/db/migration/V3__create_player_season_totals.sql と同じテーブル
+CREATE TABLE `player_season_totals` (
+  `player_id` int NOT NULL,
+  `club_id` int NOT NULL,
+  `season_id` int NOT NULL,
+  `games` int NOT NULL DEFAULT 0,
+  `starter_games` int NOT NULL DEFAULT 0,
+  `goals` int NOT NULL DEFAULT 0,
+  `assists` int NOT NULL DEFAULT 0,
+  `minutes` int NOT NULL DEFAULT 0,
+  `yellow_cards` int NOT NULL DEFAULT 0,
+  `red_cards` int NOT NULL DEFAULT 0,
+  `first_stat_id` int NOT NULL,
+  PRIMARY KEY (`player_id`, `club_id`, `season_id`),
+  FOREIGN KEY (`player_id`) REFERENCES `players`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`club_id`) REFERENCES `clubs`(`id`) ON DELETE CASCADE ON UPDATE CASCADE,
+  FOREIGN KEY (`season_id`) REFERENCES `seasons`(`id`) ON DELETE CASCADE ON UPDATE CASCADE
+);
+CREATE INDEX idx_player_season_totals_club_season ON player_season_totals (club_id, season_id);